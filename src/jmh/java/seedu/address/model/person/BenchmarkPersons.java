@@ -0,0 +1,44 @@
+package seedu.address.model.person;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates reproducible persons for benchmarks.
+ */
+public class BenchmarkPersons {
+
+    private static final String[] GIVEN_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei Ling"};
+    private static final String[] OCCUPATIONS = {"Teacher", "Engineer", "Nurse", "Chef", "Designer", "Accountant"};
+    private static final String[] TAGS = {"friends", "colleagues", "hot", "cold", "referral"};
+
+    /**
+     * Returns {@code count} distinct persons. The same count always gives the same persons.
+     */
+    public static List<Person> generate(int count) {
+        Random random = new Random(count);
+        Priority.Level[] priorities = Priority.Level.values();
+        IncomeBracket.Level[] incomeBrackets = IncomeBracket.Level.values();
+        LocalDate firstDate = LocalDate.of(2020, 1, 1);
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)] + " Surname" + i;
+            persons.add(new Person(new Name(name),
+                    new Phone(String.valueOf(80000000 + i)),
+                    new Email("person" + i + "@example.com"),
+                    new Address("Blk " + random.nextInt(1000) + " Ang Mo Kio Ave " + random.nextInt(10)),
+                    new Occupation(OCCUPATIONS[random.nextInt(OCCUPATIONS.length)]),
+                    Set.of(new Tag(TAGS[random.nextInt(TAGS.length)])),
+                    new Priority(priorities[random.nextInt(priorities.length)]),
+                    new Age(String.valueOf(18 + random.nextInt(80))),
+                    new IncomeBracket(incomeBrackets[random.nextInt(incomeBrackets.length)]),
+                    new LastContactedDate(firstDate.plusDays(random.nextInt(1500)).toString())));
+        }
+        return persons;
+    }
+}
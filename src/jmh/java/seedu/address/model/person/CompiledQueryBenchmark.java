@@ -0,0 +1,84 @@
+package seedu.address.model.person;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.PersonQuery.TextField;
+
+/**
+ * Compares a {@code find} query compiled into a flat predicate, as {@code PersonQuery} builds it, against walking the
+ * same query as a tree of clauses with streams, as {@code find} did before queries were compiled.
+ * Each invocation tests the next person in the list, so the scores are evaluations per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class CompiledQueryBenchmark {
+
+    private static final List<String> KEYWORDS = List.of("alex", "bernice");
+    private static final String OCCUPATION = "teacher";
+
+    @Param({"100000", "1000000"})
+    private int personCount;
+
+    private Person[] persons;
+    private int next;
+    private Predicate<Person> interpretedQuery;
+    private PersonQuery compiledQuery;
+
+    /**
+     * Builds the persons, and the query of {@code find alex bernice o/teacher pr/high -dnc} both ways.
+     */
+    @Setup
+    public void setUp() {
+        persons = BenchmarkPersons.generate(personCount).toArray(Person[]::new);
+        next = 0;
+
+        List<Predicate<Person>> clauses = List.of(
+                person -> KEYWORDS.stream().anyMatch(keyword -> Arrays.stream(person.getSearchKeys())
+                        .anyMatch(key -> key.contains(keyword))),
+                person -> person.getSearchKeys()[TextField.OCCUPATION.ordinal()].contains(OCCUPATION),
+                person -> person.getPriority().value == Priority.Level.HIGH,
+                person -> !person.isDncTagged());
+        interpretedQuery = person -> clauses.stream().allMatch(clause -> clause.test(person));
+
+        compiledQuery = PersonQuery.and(List.of(
+                PersonQuery.anyField(new PersonContainsKeywordsPredicate(KEYWORDS)),
+                PersonQuery.fieldContains(TextField.OCCUPATION, OCCUPATION),
+                PersonQuery.segment(SegmentFilter.priority(Priority.Level.HIGH)),
+                PersonQuery.not(PersonQuery.segment(SegmentFilter.dnc()))));
+    }
+
+    @Benchmark
+    public boolean interpreted() {
+        return interpretedQuery.test(nextPerson());
+    }
+
+    @Benchmark
+    public boolean compiled() {
+        return compiledQuery.test(nextPerson());
+    }
+
+    private Person nextPerson() {
+        Person person = persons[next];
+        next = next + 1 == persons.length ? 0 : next + 1;
+        return person;
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Compares the keyword matcher behind {@code find} against matching every keyword separately, as {@code find} did
+ * before the matcher was introduced.
+ * With the GC profiler ({@code -prof gc}), the {@code gc.alloc.rate.norm} score of {@code keywordMatcher} shows
+ * that testing the persons allocates nothing per person.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeywordSearchBenchmark {
+
+    private static final int PERSON_COUNT = 10_000;
+
+    @Param({"1", "10", "100"})
+    private int keywordCount;
+
+    private List<Person> persons;
+    private Predicate<Person> perKeywordPredicate;
+    private PersonContainsKeywordsPredicate matcherPredicate;
+
+    /**
+     * Builds the persons and the keywords, which are surnames of which only a few occur among the persons.
+     */
+    @Setup
+    public void setUp() {
+        persons = BenchmarkPersons.generate(PERSON_COUNT);
+        List<String> keywords = new ArrayList<>(keywordCount);
+        for (int i = 0; i < keywordCount; i++) {
+            keywords.add("surname" + (i % 10 == 0 ? String.valueOf(i) : "x" + i));
+        }
+        perKeywordPredicate = person -> keywords.stream()
+                .anyMatch(keyword -> StringUtil.containsSubstringIgnoreCase(person.getName().fullName, keyword)
+                || StringUtil.containsSubstringIgnoreCase(person.getPhone().value, keyword)
+                || StringUtil.containsSubstringIgnoreCase(person.getEmail().value, keyword)
+                || StringUtil.containsSubstringIgnoreCase(person.getAddress().value, keyword)
+                || StringUtil.containsSubstringIgnoreCase(person.getOccupation().value, keyword)
+                || StringUtil.containsSubstringIgnoreCase(person.getAge().value, keyword)
+                || StringUtil.containsSubstringIgnoreCase(person.getLastContactedDate().value, keyword)
+                || person.getTags().stream()
+                    .anyMatch(tag -> StringUtil.containsSubstringIgnoreCase(tag.tagName, keyword)));
+        matcherPredicate = new PersonContainsKeywordsPredicate(keywords);
+    }
+
+    @Benchmark
+    public int perKeyword() {
+        return countMatches(perKeywordPredicate);
+    }
+
+    @Benchmark
+    public int keywordMatcher() {
+        return countMatches(matcherPredicate);
+    }
+
+    private int countMatches(Predicate<Person> predicate) {
+        int matches = 0;
+        for (int i = 0; i < persons.size(); i++) {
+            if (predicate.test(persons.get(i))) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.tag.TagDictionary;
+
+/**
+ * Compares evaluating a campaign segment on the bitmaps of {@code UniquePersonList}, as {@code filter} does, against
+ * testing every person in the list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class SegmentFilterBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int personCount;
+
+    private UniquePersonList persons;
+    private SegmentFilter filter;
+
+    /**
+     * Builds the persons, and a segment of high priority or high income persons in their thirties tagged as hot.
+     */
+    @Setup
+    public void setUp() {
+        persons = new UniquePersonList();
+        persons.setPersons(BenchmarkPersons.generate(personCount));
+        filter = SegmentFilter.and(List.of(
+                SegmentFilter.or(List.of(SegmentFilter.priority(Priority.Level.HIGH),
+                        SegmentFilter.incomeBracket(IncomeBracket.Level.HIGH))),
+                SegmentFilter.age(new AgeRange(30, 39)),
+                SegmentFilter.tag(TagDictionary.of("hot")),
+                SegmentFilter.not(SegmentFilter.dnc())));
+    }
+
+    @Benchmark
+    public int bitmaps() {
+        return persons.getPersonsInSegment(filter).size();
+    }
+
+    @Benchmark
+    public int scan() {
+        int matches = 0;
+        for (Person person : persons) {
+            if (filter.test(person)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
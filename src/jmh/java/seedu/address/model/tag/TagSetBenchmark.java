@@ -0,0 +1,147 @@
+package seedu.address.model.tag;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the heap retained by the tags of many persons as {@code TagSet}s against {@code HashSet}s.
+ * Each invocation builds the tag sets of every person and keeps all of them, and the heap they retain, measured
+ * after a full collection, is reported in the results as the {@code retainedBytes} and
+ * {@code retainedBytesPerPerson} counters. The timing includes the collections forced to measure the heap.
+ *
+ * The {@code TYPICAL} distribution gives each person up to four tags out of a few dozen, with the common tags
+ * far more likely than the rare ones. The {@code HIGH_CARDINALITY} distribution also gives each person one of
+ * {@value #HIGH_CARDINALITY_TAG_COUNT} tags, e.g. the name of the campaign they came from, whose large
+ * {@link TagDictionary} ids make a {@code TagSet} take one word for every 64 ids below that of its highest tag.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class TagSetBenchmark {
+
+    private static final int TYPICAL_TAG_COUNT = 40;
+    private static final int HIGH_CARDINALITY_TAG_COUNT = 10000;
+    // The share of persons with 0, 1, 2, 3 and 4 tags of the typical ones
+    private static final double[] TAG_COUNT_SHARES = {0.2, 0.4, 0.25, 0.1, 0.05};
+
+    /**
+     * The ways of holding a person's tags.
+     */
+    public enum Representation {
+        HASH_SET,
+        TAG_SET
+    }
+
+    /**
+     * The tags persons are given.
+     */
+    public enum Distribution {
+        TYPICAL,
+        HIGH_CARDINALITY
+    }
+
+    @Param({"1000000"})
+    private int personCount;
+
+    @Param({"HASH_SET", "TAG_SET"})
+    private Representation representation;
+
+    @Param({"TYPICAL", "HIGH_CARDINALITY"})
+    private Distribution distribution;
+
+    private Tag[][] personTags;
+
+    /**
+     * Picks the tags of every person, interning all the tags before any set is built.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Tag[] typicalTags = new Tag[TYPICAL_TAG_COUNT];
+        for (int i = 0; i < typicalTags.length; i++) {
+            typicalTags[i] = TagDictionary.of("tag" + i);
+        }
+        Tag[] highCardinalityTags = new Tag[distribution == Distribution.HIGH_CARDINALITY
+                ? HIGH_CARDINALITY_TAG_COUNT : 0];
+        for (int i = 0; i < highCardinalityTags.length; i++) {
+            highCardinalityTags[i] = TagDictionary.of("campaign" + i);
+        }
+
+        personTags = new Tag[personCount][];
+        for (int i = 0; i < personCount; i++) {
+            int typicalTagCount = pickTagCount(random);
+            Tag[] tags = new Tag[typicalTagCount + (highCardinalityTags.length > 0 ? 1 : 0)];
+            for (int j = 0; j < typicalTagCount; j++) {
+                // the product of two uniform picks skews them towards the first, common tags
+                double skewed = random.nextDouble() * random.nextDouble();
+                tags[j] = typicalTags[(int) (skewed * typicalTags.length)];
+            }
+            if (highCardinalityTags.length > 0) {
+                tags[typicalTagCount] = highCardinalityTags[random.nextInt(highCardinalityTags.length)];
+            }
+            personTags[i] = tags;
+        }
+    }
+
+    private static int pickTagCount(Random random) {
+        double pick = random.nextDouble();
+        int tagCount = 0;
+        while (tagCount < TAG_COUNT_SHARES.length - 1 && pick >= TAG_COUNT_SHARES[tagCount]) {
+            pick -= TAG_COUNT_SHARES[tagCount];
+            tagCount++;
+        }
+        return tagCount;
+    }
+
+    @Benchmark
+    public Set<?>[] buildTagSets(RetainedHeap retainedHeap) {
+        long usedBytesBefore = usedBytesAfterCollection();
+        Set<?>[] tagSets = new Set<?>[personTags.length];
+        for (int i = 0; i < personTags.length; i++) {
+            tagSets[i] = representation == Representation.TAG_SET
+                    ? TagSet.of(Arrays.asList(personTags[i]))
+                    : new HashSet<>(Arrays.asList(personTags[i]));
+        }
+        retainedHeap.retainedBytes = usedBytesAfterCollection() - usedBytesBefore;
+        retainedHeap.retainedBytesPerPerson = (double) retainedHeap.retainedBytes / personTags.length;
+        return tagSets;
+    }
+
+    private static long usedBytesAfterCollection() {
+        Runtime runtime = Runtime.getRuntime();
+        // a few collections in a row, so that objects with finalizers or weak references are gone as well
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * The heap retained by the tag sets built by one invocation, including the array holding them.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RetainedHeap {
+        public long retainedBytes;
+        public double retainedBytesPerPerson;
+    }
+}
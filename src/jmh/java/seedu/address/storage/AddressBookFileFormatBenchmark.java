@@ -0,0 +1,71 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.core.AddressBookFileFormat;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.BenchmarkPersons;
+
+/**
+ * Compares reading and writing the address book file in the json and binary formats, in memory so that disk speed
+ * does not hide the difference.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddressBookFileFormatBenchmark {
+
+    @Param({"10000", "100000"})
+    private int personCount;
+
+    @Param({"JSON", "BINARY"})
+    private AddressBookFileFormat format;
+
+    private AddressBook addressBook;
+    private byte[] file;
+
+    /**
+     * Builds the address book, and the file it is read back from.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        addressBook = new AddressBook();
+        addressBook.setPersons(BenchmarkPersons.generate(personCount));
+        file = write();
+    }
+
+    @Benchmark
+    public byte[] write() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (format == AddressBookFileFormat.BINARY) {
+            BinaryAddressBookStreams.write(addressBook, out);
+        } else {
+            JsonAddressBookStreams.write(addressBook, out, false);
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public AddressBook read() throws IOException, IllegalValueException {
+        return AddressBookFileReader.read(new ByteArrayInputStream(file));
+    }
+}
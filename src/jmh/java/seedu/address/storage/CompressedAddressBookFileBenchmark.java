@@ -0,0 +1,99 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.BenchmarkPersons;
+
+/**
+ * Compares reading and writing a compressed json data file with a plain one, through {@code JsonAddressBookStorage}
+ * and the file system, as the app does. The size of each file is reported in the results as the {@code fileBytes}
+ * counter of each benchmark, next to its timing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class CompressedAddressBookFileBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int personCount;
+
+    @Param({"false", "true"})
+    private boolean isCompressed;
+
+    private Path folder;
+    private JsonAddressBookStorage storage;
+    private AddressBook addressBook;
+    private long fileBytes;
+
+    /**
+     * Builds the address book, and writes the file it is read back from.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        addressBook = new AddressBook();
+        addressBook.setPersons(BenchmarkPersons.generate(personCount));
+        folder = Files.createTempDirectory("benchmark");
+        storage = new JsonAddressBookStorage(folder.resolve("addressBook.json"), false, isCompressed);
+        storage.saveAddressBook(addressBook);
+        fileBytes = Files.size(storage.getAddressBookFilePath());
+    }
+
+    /**
+     * Deletes the files written.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(folder)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public void write(FileSize fileSize) throws IOException {
+        storage.saveAddressBook(addressBook);
+        fileSize.fileBytes = fileBytes;
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook read(FileSize fileSize) throws DataLoadingException {
+        fileSize.fileBytes = fileBytes;
+        return storage.readAddressBook().get();
+    }
+
+    /**
+     * Reports the size of the data file as a secondary result of each benchmark. It is set rather than added to, so
+     * the counter holds the size itself rather than a sum over the invocations.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class FileSize {
+        public long fileBytes;
+    }
+}
@@ -2,11 +2,14 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
+import seedu.address.commons.core.AddressBookFileFormat;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
@@ -22,8 +25,10 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookFileConverter;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.IndexedAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -46,6 +51,9 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    // Problems found while loading the data, to be shown to the user once the main window is up
+    private final List<String> startupMessages = new ArrayList<>();
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing InsuraBook ]===========================");
@@ -57,14 +65,21 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = AddressBookFileConverter.createStorage(
+                userPrefs.getAddressBookFilePath(), userPrefs.getAddressBookFileFormat(),
+                userPrefs.isCompactAddressBookFile(), userPrefs.isCompressedAddressBookFile());
+        if (userPrefs.getAddressBookFileFormat() != AddressBookFileFormat.SHARDED) {
+            // sharded storage already rewrites only what changed
+            addressBookStorage = new JournaledAddressBookStorage(addressBookStorage);
+        }
+        addressBookStorage = new IndexedAddressBookStorage(addressBookStorage);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, true);
 
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
 
-        ui = new UiManager(logic);
+        ui = new UiManager(logic, startupMessages);
     }
 
     /**
@@ -84,15 +99,40 @@ public class MainApp extends Application {
                         + " populated with a sample AddressBook.");
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            startupMessages.addAll(storage.getReadWarnings());
         } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
+            initialData = readBackupAddressBook(storage);
         }
 
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Returns the backup of the address book in {@code storage}, or an empty address book if there is no usable
+     * backup.
+     */
+    private ReadOnlyAddressBook readBackupAddressBook(Storage storage) {
+        try {
+            Optional<ReadOnlyAddressBook> backup = storage.readBackupAddressBook();
+            if (backup.isPresent()) {
+                logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                        + " Will be starting with the AddressBook from before it was last saved.");
+                startupMessages.add("The data file " + storage.getAddressBookFilePath() + " could not be loaded,"
+                        + " so InsuraBook started with the data from before it was last saved."
+                        + " The data file will be replaced at the next change; see the log for why it failed.");
+                return backup.get();
+            }
+        } catch (DataLoadingException e) {
+            logger.warning("Backup of data file at " + storage.getAddressBookFilePath() + " could not be loaded.");
+        }
+        logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                + " Will be starting with an empty AddressBook.");
+        startupMessages.add("The data file " + storage.getAddressBookFilePath() + " could not be loaded,"
+                + " so InsuraBook started with no contacts. The data file will be replaced at the next change;"
+                + " see the log for why it failed.");
+        return new AddressBook();
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -177,6 +217,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping InsuraBook ] =============================");
+        try {
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,14 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats in which the address book file can be stored.
+ */
+public enum AddressBookFileFormat {
+    /** A human-readable json file. */
+    JSON,
+    /** A compact binary file, which is smaller and faster to read and write than json. */
+    BINARY,
+    /** A manifest file, with the persons spread over json shard files next to it, of which only changed ones are
+     *  rewritten on saving. */
+    SHARDED
+}
@@ -1,10 +1,22 @@
 package seedu.address.commons.util;
 
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Writes and reads files
@@ -12,6 +24,8 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -74,10 +88,81 @@ public class FileUtil {
 
     /**
      * Writes given string to a file.
-     * Will create the file if it does not exist yet.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     * @see #writeToFile(Path, String, Path)
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, content, null);
+    }
+
+    /**
+     * Writes given string to a file, such that the file holds either all of its old content or all of the new
+     * content, even if the app or the machine stops in the middle of the write.
+     * The content is written to a temporary file next to {@code file}, forced to the disk, and then renamed over
+     * {@code file}. Will create the file and its missing parent directories if they do not exist yet.
+     *
+     * @param backupFile if not null, where the old content of {@code file} is kept.
+     */
+    public static void writeToFile(Path file, String content, Path backupFile) throws IOException {
+        byte[] bytes = content.getBytes(CHARSET);
+        writeToFile(file, backupFile, out -> out.write(bytes));
+    }
+
+    /**
+     * Similar to {@link #writeToFile(Path, String, Path)}, but the content is streamed by {@code contentWriter}
+     * through a buffer, so that it never needs to be held in memory as a whole.
+     */
+    public static void writeToFile(Path file, Path backupFile, ContentWriter contentWriter) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try (FileChannel channel = FileChannel.open(tempFile, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            // not closed here, as that would close the channel before it is forced
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE);
+            contentWriter.writeTo(out);
+            out.flush();
+            channel.force(true);
+        }
+
+        if (backupFile != null && isFileExists(file)) {
+            keepBackup(file, backupFile);
+        }
+        try {
+            Files.move(tempFile, file, ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns a {@code ContentWriter} that compresses everything written by {@code contentWriter} with GZIP.
+     */
+    public static ContentWriter compressed(ContentWriter contentWriter) {
+        return out -> {
+            GZIPOutputStream gzipOut = new GZIPOutputStream(out, WRITE_BUFFER_SIZE);
+            contentWriter.writeTo(gzipOut);
+            // finished rather than closed, as closing would close the file before it is forced to the disk
+            gzipOut.finish();
+        };
+    }
+
+    /**
+     * Makes {@code backupFile} hold the current content of {@code file}, without ever leaving {@code file} missing.
+     * A hard link is used where the file system supports it, so that the content need not be copied.
+     */
+    private static void keepBackup(Path file, Path backupFile) throws IOException {
+        Files.deleteIfExists(backupFile);
+        try {
+            Files.createLink(backupFile, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(file, backupFile, REPLACE_EXISTING);
+        }
     }
 
+    /**
+     * Writes the content of a file to an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
 }
@@ -0,0 +1,175 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * Finds whether a text contains any of a fixed set of keywords, in a single pass over the text.
+ * The keywords are compiled once into an Aho-Corasick automaton, so the cost of a scan does not grow with the number
+ * of keywords.
+ *
+ * Keywords are trimmed and lower-cased when the matcher is built. Texts passed to
+ * {@link #occursInLowerCase(String)} must already be lower-cased, which makes matching case-insensitive.
+ */
+public class KeywordMatcher {
+
+    /** The most keywords {@link #compile(List)} matches with one {@code String#contains} call each. */
+    public static final int MAX_UNROLLED_KEYWORDS = 3;
+
+    private static final int ROOT = 0;
+
+    // Outgoing edges of each state: labels sorted ascending, with the state each label leads to
+    private final char[][] edgeLabels;
+    private final int[][] edgeTargets;
+    private final int[] failureLinks;
+    // Whether some keyword ends at each state, either directly or through its failure links
+    private final boolean[] isMatch;
+
+    /**
+     * Builds a matcher for {@code keywords}.
+     */
+    public KeywordMatcher(List<String> keywords) {
+        requireNonNull(keywords);
+
+        List<Map<Character, Integer>> trie = new ArrayList<>();
+        List<Boolean> endsKeyword = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        endsKeyword.add(false);
+        for (String keyword : keywords) {
+            int state = ROOT;
+            for (char c : keyword.trim().toLowerCase().toCharArray()) {
+                Integer next = trie.get(state).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    endsKeyword.add(false);
+                    trie.get(state).put(c, next);
+                }
+                state = next;
+            }
+            endsKeyword.set(state, true);
+        }
+
+        int stateCount = trie.size();
+        edgeLabels = new char[stateCount][];
+        edgeTargets = new int[stateCount][];
+        failureLinks = new int[stateCount];
+        isMatch = new boolean[stateCount];
+        for (int state = 0; state < stateCount; state++) {
+            Map<Character, Integer> edges = trie.get(state);
+            edgeLabels[state] = new char[edges.size()];
+            edgeTargets[state] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                edgeLabels[state][i] = edge.getKey();
+                edgeTargets[state][i] = edge.getValue();
+                i++;
+            }
+            isMatch[state] = endsKeyword.get(state);
+        }
+        linkFailures();
+    }
+
+    /**
+     * Returns a test of whether a lower-cased text contains any of {@code keywords}, specialized for their number.
+     * Up to {@link #MAX_UNROLLED_KEYWORDS} keywords are each looked for with {@code String#contains}, which is
+     * faster than stepping through the automaton for so few of them; more keywords are matched by a
+     * {@code KeywordMatcher}. The keywords are trimmed and lower-cased here, and the test does not allocate.
+     */
+    public static Predicate<String> compile(List<String> keywords) {
+        requireNonNull(keywords);
+        String[] lowerCaseKeywords = keywords.stream()
+                .map(keyword -> keyword.trim().toLowerCase())
+                .distinct()
+                .toArray(String[]::new);
+        if (Arrays.asList(lowerCaseKeywords).contains("")) {
+            return lowerCaseText -> true;
+        }
+
+        switch (lowerCaseKeywords.length) {
+        case 0:
+            return lowerCaseText -> false;
+        case 1:
+            String only = lowerCaseKeywords[0];
+            return lowerCaseText -> lowerCaseText.contains(only);
+        case 2:
+            String first = lowerCaseKeywords[0];
+            String second = lowerCaseKeywords[1];
+            return lowerCaseText -> lowerCaseText.contains(first) || lowerCaseText.contains(second);
+        case 3:
+            String one = lowerCaseKeywords[0];
+            String two = lowerCaseKeywords[1];
+            String three = lowerCaseKeywords[2];
+            return lowerCaseText -> lowerCaseText.contains(one) || lowerCaseText.contains(two)
+                    || lowerCaseText.contains(three);
+        default:
+            return new KeywordMatcher(keywords)::occursInLowerCase;
+        }
+    }
+
+    /**
+     * Returns true if {@code lowerCaseText} contains any of the keywords.
+     * The text must already be lower-cased. Does not allocate.
+     */
+    public boolean occursInLowerCase(String lowerCaseText) {
+        requireNonNull(lowerCaseText);
+        if (isMatch[ROOT]) {
+            return true;
+        }
+
+        int state = ROOT;
+        for (int i = 0; i < lowerCaseText.length(); i++) {
+            state = step(state, lowerCaseText.charAt(i));
+            if (isMatch[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Computes the failure link of every state breadth-first, so that the link of a state's parent is always known
+     * before the state itself.
+     */
+    private void linkFailures() {
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : edgeTargets[ROOT]) {
+            failureLinks[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+            for (int i = 0; i < edgeLabels[state].length; i++) {
+                int child = edgeTargets[state][i];
+                failureLinks[child] = step(failureLinks[state], edgeLabels[state][i]);
+                isMatch[child] |= isMatch[failureLinks[child]];
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Returns the state reached from {@code state} on reading {@code c}, following failure links where needed.
+     */
+    private int step(int state, char c) {
+        int current = state;
+        while (true) {
+            int edge = Arrays.binarySearch(edgeLabels[current], c);
+            if (edge >= 0) {
+                return edgeTargets[current][edge];
+            }
+            if (current == ROOT) {
+                return ROOT;
+            }
+            current = failureLinks[current];
+        }
+    }
+}
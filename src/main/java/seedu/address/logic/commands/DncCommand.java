@@ -12,6 +12,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.DncTag;
+import seedu.address.model.tag.TagDictionary;
 
 /**
  * Marks a person as "Do Not Call" in the address book.
@@ -37,7 +38,7 @@ public class DncCommand extends Command {
     public DncCommand(Index targetIndex) {
         requireNonNull(targetIndex);
         this.targetIndex = targetIndex;
-        this.tag = new DncTag();
+        this.tag = TagDictionary.getDncTag();
     }
 
     @Override
@@ -140,26 +140,8 @@ public class EditCommand extends Command {
      */
     private void checkForDuplicates(Model model, Person personToEdit, Person editedPerson)
             throws CommandException {
-        List<Person> allPersons = model.getAddressBook().getPersonList();
-
-        boolean hasNameConflict = false;
-        boolean hasPhoneConflict = false;
-
-        for (Person existingPerson : allPersons) {
-            if (existingPerson.equals(personToEdit)) {
-                continue;
-            }
-
-            // Check for name conflict
-            if (existingPerson.getName().equals(editedPerson.getName())) {
-                hasNameConflict = true;
-            }
-
-            // Check for phone conflict
-            if (existingPerson.getPhone().equals(editedPerson.getPhone())) {
-                hasPhoneConflict = true;
-            }
-        }
+        boolean hasNameConflict = model.hasOtherPersonWithName(personToEdit, editedPerson);
+        boolean hasPhoneConflict = model.hasOtherPersonWithPhone(personToEdit, editedPerson);
 
         if (hasNameConflict && hasPhoneConflict) {
             throw new CommandException(MESSAGE_DUPLICATE_NAME_AND_PHONE);
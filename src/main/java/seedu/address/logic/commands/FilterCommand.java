@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.SegmentFilter;
+
+/**
+ * Lists all persons in a campaign segment, described by clauses on priority, income bracket, age, tags and Do Not
+ * Call status that are combined with AND, OR and NOT.
+ * The segment is evaluated on the bitmaps kept by the model rather than by testing every person.
+ */
+public class FilterCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all persons in the segment described by the "
+            + "clauses given, which are combined with AND, OR and NOT (case-insensitive) and grouped with brackets. "
+            + "Clauses next to each other without an operator are combined with AND, and AND is applied before OR.\n"
+            + "Clauses: pr/PRIORITY, i/INCOME_BRACKET, age/MIN-MAX, t/TAG (one word), dnc\n"
+            + "Example: " + COMMAND_WORD + " (pr/high or i/high) and age/30-45 and not dnc";
+
+    private final SegmentFilter filter;
+
+    public FilterCommand(SegmentFilter filter) {
+        requireNonNull(filter);
+        this.filter = filter;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Set<Person> matches = model.getPersonsInSegment(filter);
+        // the matches only hold for the persons in the list now, so persons changed later are tested one by one
+        model.updateFilteredPersonList(PersonQuery.segment(filter), matches::contains);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FilterCommand)) {
+            return false;
+        }
+
+        FilterCommand otherFilterCommand = (FilterCommand) other;
+        return filter.equals(otherFilterCommand.filter);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filter", filter)
+                .toString();
+    }
+}
@@ -6,11 +6,14 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.PersonQuery;
 
 /**
  * Finds and lists all persons in address book whose name, phone, email, address, occupation,
  * age, last contacted date, or tags contain any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Keywords can also be scoped to a field with its prefix, and clauses can be negated, as described by
+ * {@link #MESSAGE_USAGE}. Keyword matching is case insensitive.
+ * The query is planned by the model, which looks up its most selective clause in an index before testing the rest.
  */
 public class FindCommand extends Command {
 
@@ -20,18 +23,34 @@ public class FindCommand extends Command {
             + "emails, addresses, occupations, ages, last contacted dates, or tags contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Keywords can be scoped to a field with n/, p/, e/, a/ or o/, and persons can be matched by t/TAG, "
+            + "pr/PRIORITY, i/INCOME_BRACKET or age/MIN-MAX. Clauses on different fields must all match, clauses on "
+            + "the same field and unscoped keywords need only one to match, and a clause starting with - must not "
+            + "match, e.g. -dnc.\n"
+            + "Examples: " + COMMAND_WORD + " alice bob charlie, " + COMMAND_WORD + " o/teacher t/hot -dnc";
 
-    private final PersonContainsKeywordsPredicate predicate;
+    private final PersonQuery query;
 
+    /**
+     * Creates a FindCommand to find the persons that contain any of the keywords of {@code predicate}.
+     */
     public FindCommand(PersonContainsKeywordsPredicate predicate) {
-        this.predicate = predicate;
+        this(PersonQuery.anyField(predicate));
+    }
+
+    /**
+     * Creates a FindCommand to find the persons that {@code query} matches.
+     */
+    public FindCommand(PersonQuery query) {
+        requireNonNull(query);
+        this.query = query;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        // the plan only holds for the persons in the list now, so persons changed later are tested with the query
+        model.updateFilteredPersonList(query, model.planQuery(query));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -48,13 +67,13 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return query.equals(otherFindCommand.query);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("predicate", predicate)
+                .add("predicate", query)
                 .toString();
     }
 }
@@ -4,13 +4,19 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.Comparator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import seedu.address.model.Model;
+import seedu.address.model.person.AgeRange;
+import seedu.address.model.person.LastContactedDateRange;
 import seedu.address.model.person.Person;
 
 /**
  * Lists all persons in the address book to the user.
- * Can optionally sort by priority or income bracket in ascending or descending order.
+ * Can optionally sort by priority or income bracket in ascending or descending order, or list only the persons
+ * last contacted within a range of dates or aged within a range of ages.
  */
 public class ListCommand extends Command {
 
@@ -18,14 +24,21 @@ public class ListCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Lists all persons in the InsuraBook.\n"
-            + "Optionally sorts by priority or income bracket.\n"
-            + "Parameters: [pr/ORDER] or [i/ORDER] where ORDER is 'asc' or 'desc'\n"
+            + "Optionally sorts by priority or income bracket, or lists only the persons last contacted or aged in a "
+            + "range.\n"
+            + "Parameters: [pr/ORDER] or [i/ORDER] where ORDER is 'asc' or 'desc', "
+            + "or [lc/RANGE] where RANGE is 'never', 'before DATE', 'after DATE' or 'DATE to DATE', "
+            + "or [age/MIN-MAX]\n"
             + "Examples:\n"
             + COMMAND_WORD + " (lists all persons)\n"
             + COMMAND_WORD + " pr/asc (lists all persons sorted by priority in ascending order: LOW to HIGH)\n"
             + COMMAND_WORD + " pr/desc (lists all persons sorted by priority in descending order: HIGH to LOW)\n"
             + COMMAND_WORD + " i/asc (lists all persons sorted by income bracket in ascending order: LOW to HIGH)\n"
-            + COMMAND_WORD + " i/desc (lists all persons sorted by income bracket in descending order: HIGH to LOW)";
+            + COMMAND_WORD + " i/desc (lists all persons sorted by income bracket in descending order: HIGH to LOW)\n"
+            + COMMAND_WORD + " lc/before 2025-01-01 (lists all persons last contacted before 1 January 2025)\n"
+            + COMMAND_WORD + " lc/2025-01-01 to 2025-03-31 (lists all persons last contacted in that period)\n"
+            + COMMAND_WORD + " lc/never (lists all persons never contacted)\n"
+            + COMMAND_WORD + " age/30-45 (lists all persons aged 30 to 45)";
 
     public static final String MESSAGE_SUCCESS = "Listed all persons";
     public static final String MESSAGE_SUCCESS_SORTED_PRIORITY_ASC =
@@ -36,6 +49,7 @@ public class ListCommand extends Command {
             "Listed all persons sorted by income bracket in ascending order (LOW to HIGH)";
     public static final String MESSAGE_SUCCESS_SORTED_INCOME_DESC =
             "Listed all persons sorted by income bracket in descending order (HIGH to LOW)";
+    public static final String MESSAGE_SUCCESS_FILTERED = "Listed %1$d persons %2$s";
 
     /**
      * Enum representing the field to sort by.
@@ -46,6 +60,8 @@ public class ListCommand extends Command {
 
     private final SortField sortField;
     private final boolean isAscending;
+    private final LastContactedDateRange lastContactedDateRange;
+    private final AgeRange ageRange;
 
     /**
      * Creates a ListCommand to list all persons without sorting.
@@ -53,6 +69,8 @@ public class ListCommand extends Command {
     public ListCommand() {
         this.sortField = null;
         this.isAscending = true;
+        this.lastContactedDateRange = null;
+        this.ageRange = null;
     }
 
     /**
@@ -64,11 +82,46 @@ public class ListCommand extends Command {
     public ListCommand(SortField sortField, boolean isAscending) {
         this.sortField = sortField;
         this.isAscending = isAscending;
+        this.lastContactedDateRange = null;
+        this.ageRange = null;
+    }
+
+    /**
+     * Creates a ListCommand to list the persons last contacted within {@code lastContactedDateRange}, without sorting.
+     */
+    public ListCommand(LastContactedDateRange lastContactedDateRange) {
+        requireNonNull(lastContactedDateRange);
+        this.sortField = null;
+        this.isAscending = true;
+        this.lastContactedDateRange = lastContactedDateRange;
+        this.ageRange = null;
+    }
+
+    /**
+     * Creates a ListCommand to list the persons aged within {@code ageRange}, without sorting.
+     */
+    public ListCommand(AgeRange ageRange) {
+        requireNonNull(ageRange);
+        this.sortField = null;
+        this.isAscending = true;
+        this.lastContactedDateRange = null;
+        this.ageRange = ageRange;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
+
+        // ranges are looked up in the indexes of the model once, rather than tested against every person
+        if (lastContactedDateRange != null) {
+            return listMatches(model, lastContactedDateRange,
+                    model.getPersonsLastContactedWithin(lastContactedDateRange),
+                    lastContactedDateRange.getDescription());
+        }
+        if (ageRange != null) {
+            return listMatches(model, ageRange, model.getPersonsAgedWithin(ageRange), ageRange.getDescription());
+        }
+
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
         if (sortField != null) {
@@ -81,6 +134,15 @@ public class ListCommand extends Command {
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
+    private static CommandResult listMatches(Model model, Predicate<Person> range, Set<Person> matches,
+            String description) {
+        // the matches only hold for the persons in the list now, so persons changed later are tested with the range
+        model.updateFilteredPersonList(range, matches::contains);
+        model.updateSortedPersonList(null);
+        return new CommandResult(String.format(MESSAGE_SUCCESS_FILTERED, model.getFilteredPersonList().size(),
+                description));
+    }
+
     /**
      * Returns the appropriate comparator based on the sort field and order.
      */
@@ -129,6 +191,8 @@ public class ListCommand extends Command {
 
         ListCommand otherCommand = (ListCommand) other;
         return sortField == otherCommand.sortField
-                && isAscending == otherCommand.isAscending;
+                && isAscending == otherCommand.isAscending
+                && Objects.equals(lastContactedDateRange, otherCommand.lastContactedDateRange)
+                && Objects.equals(ageRange, otherCommand.ageRange);
     }
 }
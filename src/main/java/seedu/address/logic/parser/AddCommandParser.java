@@ -55,15 +55,15 @@ public class AddCommandParser implements Parser<AddCommand> {
 
         Email email = argMultimap.getValue(PREFIX_EMAIL).isPresent()
                 ? ParserUtil.parseEmail(argMultimap.getValue(PREFIX_EMAIL).get())
-                : new Email("");
+                : Email.EMPTY;
 
         Address address = argMultimap.getValue(PREFIX_ADDRESS).isPresent()
                 ? ParserUtil.parseAddress(argMultimap.getValue(PREFIX_ADDRESS).get())
-                : new Address("");
+                : Address.EMPTY;
 
         Age age = argMultimap.getValue(PREFIX_AGE).isPresent()
                 ? ParserUtil.parseAge(argMultimap.getValue(PREFIX_AGE).get())
-                : new Age("");
+                : Age.EMPTY;
 
         // Handle tags: filter out empty values, treat as no tags
         Set<Tag> tagList = ParserUtil.parseTags(
@@ -77,15 +77,15 @@ public class AddCommandParser implements Parser<AddCommand> {
         if (argMultimap.getValue(PREFIX_PRIORITY).isPresent()) {
             String priorityValue = argMultimap.getValue(PREFIX_PRIORITY).get();
             priority = priorityValue.trim().isEmpty()
-                    ? new Priority(Priority.Level.NONE)
+                    ? Priority.of(Priority.Level.NONE)
                     : ParserUtil.parsePriority(priorityValue);
         } else {
-            priority = new Priority(Priority.Level.NONE);
+            priority = Priority.of(Priority.Level.NONE);
         }
 
         Occupation occupation = argMultimap.getValue(PREFIX_OCCUPATION).isPresent()
                 ? ParserUtil.parseOccupation(argMultimap.getValue(PREFIX_OCCUPATION).get())
-                : new Occupation("");
+                : Occupation.EMPTY;
 
         // Handle income bracket: if present but empty, treat as not passed (null)
         IncomeBracket incomeBracket;
@@ -100,7 +100,7 @@ public class AddCommandParser implements Parser<AddCommand> {
 
         LastContactedDate lastContactedDate = argMultimap.getValue(PREFIX_LAST_CONTACTED_DATE).isPresent()
                 ? ParserUtil.parseLastContactedDate(argMultimap.getValue(PREFIX_LAST_CONTACTED_DATE).get())
-                : new LastContactedDate("");
+                : LastContactedDate.EMPTY;
 
         Person person = new Person(name, phone, email, address, occupation, tagList, priority,
                 age, incomeBracket, lastContactedDate);
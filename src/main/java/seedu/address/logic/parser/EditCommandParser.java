@@ -82,7 +82,7 @@ public class EditCommandParser implements Parser<EditCommand> {
         if (argMultimap.getValue(PREFIX_PRIORITY).isPresent()) {
             String priorityValue = argMultimap.getValue(PREFIX_PRIORITY).get();
             if (priorityValue.trim().isEmpty()) {
-                editPersonDescriptor.setPriority(new Priority(Priority.Level.NONE));
+                editPersonDescriptor.setPriority(Priority.of(Priority.Level.NONE));
             } else {
                 editPersonDescriptor.setPriority(ParserUtil.parsePriority(priorityValue));
             }
@@ -94,7 +94,7 @@ public class EditCommandParser implements Parser<EditCommand> {
         if (argMultimap.getValue(PREFIX_INCOME_BRACKET).isPresent()) {
             String incomeBracketValue = argMultimap.getValue(PREFIX_INCOME_BRACKET).get();
             if (incomeBracketValue.trim().isEmpty()) {
-                editPersonDescriptor.setIncomeBracket(new IncomeBracket(IncomeBracket.Level.NONE));
+                editPersonDescriptor.setIncomeBracket(IncomeBracket.of(IncomeBracket.Level.NONE));
             } else {
                 editPersonDescriptor.setIncomeBracket(ParserUtil.parseIncomeBracket(incomeBracketValue));
             }
@@ -0,0 +1,130 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INCOME_BRACKET;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.SegmentFilter;
+
+/**
+ * Parses input arguments and creates a new FilterCommand object.
+ *
+ * The arguments are an expression of clauses, where NOT binds tightest, then AND, then OR, and brackets group
+ * clauses. Two clauses next to each other without an operator are combined with AND.
+ */
+public class FilterCommandParser implements Parser<FilterCommand> {
+
+    private static final String AND = "and";
+    private static final String OR = "or";
+    private static final String NOT = "not";
+    private static final String OPEN_BRACKET = "(";
+    private static final String CLOSE_BRACKET = ")";
+    private static final String DNC = "dnc";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FilterCommand
+     * and returns a FilterCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FilterCommand parse(String args) throws ParseException {
+        Deque<String> tokens = tokenize(args);
+        if (tokens.isEmpty()) {
+            throw invalidFormat();
+        }
+
+        SegmentFilter filter = parseOr(tokens);
+        if (!tokens.isEmpty()) {
+            throw invalidFormat();
+        }
+        return new FilterCommand(filter);
+    }
+
+    private static Deque<String> tokenize(String args) {
+        String spacedArgs = args.replace(OPEN_BRACKET, " ( ").replace(CLOSE_BRACKET, " ) ").trim();
+        if (spacedArgs.isEmpty()) {
+            return new ArrayDeque<>();
+        }
+        return new ArrayDeque<>(Arrays.asList(spacedArgs.split("\\s+")));
+    }
+
+    private static SegmentFilter parseOr(Deque<String> tokens) throws ParseException {
+        List<SegmentFilter> operands = new ArrayList<>();
+        operands.add(parseAnd(tokens));
+        while (isNext(tokens, OR)) {
+            tokens.pop();
+            operands.add(parseAnd(tokens));
+        }
+        return operands.size() == 1 ? operands.get(0) : SegmentFilter.or(operands);
+    }
+
+    private static SegmentFilter parseAnd(Deque<String> tokens) throws ParseException {
+        List<SegmentFilter> operands = new ArrayList<>();
+        operands.add(parseNot(tokens));
+        while (!tokens.isEmpty() && !isNext(tokens, OR) && !isNext(tokens, CLOSE_BRACKET)) {
+            if (isNext(tokens, AND)) {
+                tokens.pop();
+            }
+            operands.add(parseNot(tokens));
+        }
+        return operands.size() == 1 ? operands.get(0) : SegmentFilter.and(operands);
+    }
+
+    private static SegmentFilter parseNot(Deque<String> tokens) throws ParseException {
+        if (tokens.isEmpty()) {
+            throw invalidFormat();
+        }
+        if (isNext(tokens, NOT)) {
+            tokens.pop();
+            return SegmentFilter.not(parseNot(tokens));
+        }
+        if (isNext(tokens, OPEN_BRACKET)) {
+            tokens.pop();
+            SegmentFilter filter = parseOr(tokens);
+            if (!isNext(tokens, CLOSE_BRACKET)) {
+                throw invalidFormat();
+            }
+            tokens.pop();
+            return filter;
+        }
+        return parseClause(tokens.pop());
+    }
+
+    private static SegmentFilter parseClause(String clause) throws ParseException {
+        String lowerCaseClause = clause.toLowerCase();
+        if (lowerCaseClause.equals(DNC)) {
+            return SegmentFilter.dnc();
+        } else if (lowerCaseClause.startsWith(PREFIX_PRIORITY.getPrefix())) {
+            return SegmentFilter.priority(ParserUtil.parsePriority(valueOf(clause, PREFIX_PRIORITY)).value);
+        } else if (lowerCaseClause.startsWith(PREFIX_INCOME_BRACKET.getPrefix())) {
+            return SegmentFilter.incomeBracket(
+                    ParserUtil.parseIncomeBracket(valueOf(clause, PREFIX_INCOME_BRACKET)).value);
+        } else if (lowerCaseClause.startsWith(PREFIX_AGE.getPrefix())) {
+            return SegmentFilter.age(ParserUtil.parseAgeRange(valueOf(clause, PREFIX_AGE)));
+        } else if (lowerCaseClause.startsWith(PREFIX_TAG.getPrefix())) {
+            return SegmentFilter.tag(ParserUtil.parseTag(valueOf(clause, PREFIX_TAG)));
+        }
+        throw invalidFormat();
+    }
+
+    private static String valueOf(String clause, Prefix prefix) {
+        return clause.substring(prefix.getPrefix().length());
+    }
+
+    private static boolean isNext(Deque<String> tokens, String token) {
+        return !tokens.isEmpty() && tokens.peek().equalsIgnoreCase(token);
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+    }
+}
@@ -1,18 +1,43 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INCOME_BRACKET;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OCCUPATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.PersonQuery.TextField;
+import seedu.address.model.person.SegmentFilter;
 
 /**
- * Parses input arguments and creates a new FindCommand object
+ * Parses input arguments and creates a new FindCommand object.
+ *
+ * Unscoped keywords match persons with any of them in any field. A keyword starting with a prefix is a clause on that
+ * field only: clauses on the same field are combined with OR, and clauses on different fields, as well as the
+ * unscoped keywords, with AND. A clause starting with {@code -} must not match, and {@code -dnc} excludes the
+ * persons marked as Do Not Call.
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    private static final String NEGATION = "-";
+    private static final String DNC = "dnc";
+    private static final Prefix[] CLAUSE_PREFIXES = {PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+        PREFIX_OCCUPATION, PREFIX_TAG, PREFIX_PRIORITY, PREFIX_INCOME_BRACKET, PREFIX_AGE};
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
@@ -21,13 +46,85 @@ public class FindCommandParser implements Parser<FindCommand> {
     public FindCommand parse(String args) throws ParseException {
         String trimmedArgs = args.trim();
         if (trimmedArgs.isEmpty()) {
-            throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            throw invalidFormat();
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        List<String> keywords = new ArrayList<>();
+        Map<Prefix, List<PersonQuery>> clausesByPrefix = new LinkedHashMap<>();
+        List<PersonQuery> negatedClauses = new ArrayList<>();
+        for (String token : trimmedArgs.split("\\s+")) {
+            boolean isNegated = token.startsWith(NEGATION) && token.length() > NEGATION.length();
+            String clause = isNegated ? token.substring(NEGATION.length()) : token;
+            Prefix prefix = prefixOf(clause);
+            if (isNegated) {
+                negatedClauses.add(PersonQuery.not(parseNegatedClause(clause, prefix)));
+            } else if (prefix == null) {
+                keywords.add(token);
+            } else {
+                clausesByPrefix.computeIfAbsent(prefix, unused -> new ArrayList<>()).add(parseClause(clause, prefix));
+            }
+        }
 
-        return new FindCommand(new PersonContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        if (clausesByPrefix.isEmpty() && negatedClauses.isEmpty()) {
+            return new FindCommand(new PersonContainsKeywordsPredicate(keywords));
+        }
+        List<PersonQuery> conjuncts = new ArrayList<>();
+        if (!keywords.isEmpty()) {
+            conjuncts.add(PersonQuery.anyField(new PersonContainsKeywordsPredicate(keywords)));
+        }
+        for (List<PersonQuery> clauses : clausesByPrefix.values()) {
+            conjuncts.add(clauses.size() == 1 ? clauses.get(0) : PersonQuery.or(clauses));
+        }
+        conjuncts.addAll(negatedClauses);
+        return new FindCommand(conjuncts.size() == 1 ? conjuncts.get(0) : PersonQuery.and(conjuncts));
     }
 
+    private static Prefix prefixOf(String clause) {
+        String lowerCaseClause = clause.toLowerCase();
+        for (Prefix prefix : CLAUSE_PREFIXES) {
+            if (lowerCaseClause.startsWith(prefix.getPrefix())) {
+                return prefix;
+            }
+        }
+        return null;
+    }
+
+    private static PersonQuery parseNegatedClause(String clause, Prefix prefix) throws ParseException {
+        if (prefix != null) {
+            return parseClause(clause, prefix);
+        } else if (clause.equalsIgnoreCase(DNC)) {
+            return PersonQuery.segment(SegmentFilter.dnc());
+        }
+        return PersonQuery.anyField(new PersonContainsKeywordsPredicate(List.of(clause)));
+    }
+
+    private static PersonQuery parseClause(String clause, Prefix prefix) throws ParseException {
+        String value = clause.substring(prefix.getPrefix().length());
+        if (value.isEmpty()) {
+            throw invalidFormat();
+        }
+
+        if (prefix.equals(PREFIX_NAME)) {
+            return PersonQuery.fieldContains(TextField.NAME, value);
+        } else if (prefix.equals(PREFIX_PHONE)) {
+            return PersonQuery.fieldContains(TextField.PHONE, value);
+        } else if (prefix.equals(PREFIX_EMAIL)) {
+            return PersonQuery.fieldContains(TextField.EMAIL, value);
+        } else if (prefix.equals(PREFIX_ADDRESS)) {
+            return PersonQuery.fieldContains(TextField.ADDRESS, value);
+        } else if (prefix.equals(PREFIX_OCCUPATION)) {
+            return PersonQuery.fieldContains(TextField.OCCUPATION, value);
+        } else if (prefix.equals(PREFIX_TAG)) {
+            return PersonQuery.tag(ParserUtil.parseTag(value));
+        } else if (prefix.equals(PREFIX_PRIORITY)) {
+            return PersonQuery.segment(SegmentFilter.priority(ParserUtil.parsePriority(value).value));
+        } else if (prefix.equals(PREFIX_INCOME_BRACKET)) {
+            return PersonQuery.segment(SegmentFilter.incomeBracket(ParserUtil.parseIncomeBracket(value).value));
+        }
+        return PersonQuery.segment(SegmentFilter.age(ParserUtil.parseAgeRange(value)));
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
 }
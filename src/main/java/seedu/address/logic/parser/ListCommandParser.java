@@ -1,7 +1,9 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AGE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INCOME_BRACKET;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LAST_CONTACTED_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
 
 import seedu.address.logic.commands.ListCommand;
@@ -24,23 +26,33 @@ public class ListCommandParser implements Parser<ListCommand> {
             return new ListCommand();
         }
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PRIORITY, PREFIX_INCOME_BRACKET);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PRIORITY, PREFIX_INCOME_BRACKET,
+                PREFIX_LAST_CONTACTED_DATE, PREFIX_AGE);
 
         if (!argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
         }
 
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_PRIORITY, PREFIX_INCOME_BRACKET);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_PRIORITY, PREFIX_INCOME_BRACKET, PREFIX_LAST_CONTACTED_DATE,
+                PREFIX_AGE);
 
         boolean hasPriority = argMultimap.getValue(PREFIX_PRIORITY).isPresent();
         boolean hasIncomeBracket = argMultimap.getValue(PREFIX_INCOME_BRACKET).isPresent();
+        boolean hasLastContactedDate = argMultimap.getValue(PREFIX_LAST_CONTACTED_DATE).isPresent();
+        boolean hasAge = argMultimap.getValue(PREFIX_AGE).isPresent();
 
-        if (hasPriority && hasIncomeBracket) {
+        int optionCount = (hasPriority ? 1 : 0) + (hasIncomeBracket ? 1 : 0) + (hasLastContactedDate ? 1 : 0)
+                + (hasAge ? 1 : 0);
+        if (optionCount != 1) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
         }
 
-        if (!hasPriority && !hasIncomeBracket) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+        if (hasLastContactedDate) {
+            return new ListCommand(
+                    ParserUtil.parseLastContactedDateRange(argMultimap.getValue(PREFIX_LAST_CONTACTED_DATE).get()));
+        }
+        if (hasAge) {
+            return new ListCommand(ParserUtil.parseAgeRange(argMultimap.getValue(PREFIX_AGE).get()));
         }
 
         if (hasPriority) {
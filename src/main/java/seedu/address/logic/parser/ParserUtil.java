@@ -2,24 +2,31 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Age;
+import seedu.address.model.person.AgeRange;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.IncomeBracket;
 import seedu.address.model.person.LastContactedDate;
+import seedu.address.model.person.LastContactedDateRange;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Occupation;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Priority;
 import seedu.address.model.tag.DncTag;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagDictionary;
 
 
 /**
@@ -28,6 +35,12 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
 
+    private static final String DATE_FORMAT = "\\d{4}-\\d{2}-\\d{2}";
+    private static final Pattern DATE_RANGE_FORMAT = Pattern.compile("before\\s+(?<before>" + DATE_FORMAT + ")"
+            + "|after\\s+(?<after>" + DATE_FORMAT + ")"
+            + "|(?<from>" + DATE_FORMAT + ")\\s+to\\s+(?<to>" + DATE_FORMAT + ")");
+    private static final Pattern AGE_RANGE_FORMAT = Pattern.compile("(?<min>\\d{1,3})(\\s*-\\s*(?<max>\\d{1,3}))?");
+
     /**
      * Parses a {@code String occupation} into an {@code Occupation}.
      * @throws ParseException if the given {@code occupation} is invalid.
@@ -36,12 +49,12 @@ public class ParserUtil {
         requireNonNull(occupation);
         String trimmedOccupation = occupation.trim();
         if (trimmedOccupation.isEmpty()) {
-            return new Occupation("");
+            return Occupation.EMPTY;
         }
         if (!Occupation.isValidOccupation(trimmedOccupation)) {
             throw new ParseException(Occupation.MESSAGE_CONSTRAINTS);
         }
-        return new Occupation(trimmedOccupation);
+        return Occupation.of(trimmedOccupation);
     }
 
     /**
@@ -99,7 +112,7 @@ public class ParserUtil {
         if (!Address.isValidAddress(trimmedAddress)) {
             throw new ParseException(Address.MESSAGE_CONSTRAINTS);
         }
-        return new Address(trimmedAddress);
+        return Address.of(trimmedAddress);
     }
 
     /**
@@ -114,7 +127,7 @@ public class ParserUtil {
         if (!Email.isValidEmail(trimmedEmail)) {
             throw new ParseException(Email.MESSAGE_CONSTRAINTS);
         }
-        return new Email(trimmedEmail);
+        return Email.of(trimmedEmail);
     }
 
     /**
@@ -130,9 +143,9 @@ public class ParserUtil {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
         if (DncTag.DNC_TAG_NAME.equalsIgnoreCase(trimmedTag)) {
-            return new DncTag();
+            return TagDictionary.getDncTag();
         }
-        return new Tag(trimmedTag);
+        return TagDictionary.of(trimmedTag);
     }
 
     /**
@@ -144,7 +157,7 @@ public class ParserUtil {
         if (!Priority.isValidPriority(trimmedPriority)) {
             throw new ParseException(Priority.MESSAGE_CONSTRAINTS);
         }
-        return new Priority(trimmedPriority);
+        return Priority.of(trimmedPriority);
     }
 
     /**
@@ -170,7 +183,7 @@ public class ParserUtil {
         if (!Age.isValidAge(normalizedAge)) {
             throw new ParseException(Age.MESSAGE_CONSTRAINTS);
         }
-        return new Age(trimmedAge);
+        return Age.of(trimmedAge);
     }
 
     /**
@@ -182,7 +195,7 @@ public class ParserUtil {
         if (!IncomeBracket.isValidIncomeBracket(trimmedIncomeBracket)) {
             throw new ParseException(IncomeBracket.MESSAGE_CONSTRAINTS);
         }
-        return new IncomeBracket(trimmedIncomeBracket);
+        return IncomeBracket.of(trimmedIncomeBracket);
     }
 
     /**
@@ -209,6 +222,57 @@ public class ParserUtil {
         if (!LastContactedDate.isValidLastContactedDate(trimmedDate)) {
             throw new ParseException(LastContactedDate.MESSAGE_CONSTRAINTS);
         }
-        return new LastContactedDate(trimmedDate);
+        return LastContactedDate.of(trimmedDate);
+    }
+
+    /**
+     * Parses a {@code String range} of ages, either a single age or "MIN-MAX", into an {@code AgeRange}.
+     *
+     * @throws ParseException if the given {@code range} is invalid.
+     */
+    public static AgeRange parseAgeRange(String range) throws ParseException {
+        requireNonNull(range);
+        Matcher matcher = AGE_RANGE_FORMAT.matcher(range.trim());
+        if (!matcher.matches()) {
+            throw new ParseException(AgeRange.MESSAGE_CONSTRAINTS);
+        }
+        int minYears = Integer.parseInt(matcher.group("min"));
+        int maxYears = matcher.group("max") == null ? minYears : Integer.parseInt(matcher.group("max"));
+        if (!AgeRange.isValidAgeRange(minYears, maxYears)) {
+            throw new ParseException(AgeRange.MESSAGE_CONSTRAINTS);
+        }
+        return new AgeRange(minYears, maxYears);
+    }
+
+    /**
+     * Parses a {@code String range} of last contacted dates into a {@code LastContactedDateRange}.
+     * The range is one of "never", "before DATE", "after DATE" or "DATE to DATE", ignoring case, where "before" and
+     * "after" exclude DATE itself and "to" includes both dates.
+     *
+     * @throws ParseException if the given {@code range} is invalid.
+     */
+    public static LastContactedDateRange parseLastContactedDateRange(String range) throws ParseException {
+        requireNonNull(range);
+        String trimmedRange = range.trim().toLowerCase();
+        if (trimmedRange.equals("never")) {
+            return LastContactedDateRange.never();
+        }
+
+        Matcher matcher = DATE_RANGE_FORMAT.matcher(trimmedRange);
+        if (!matcher.matches()) {
+            throw new ParseException(LastContactedDateRange.MESSAGE_CONSTRAINTS);
+        }
+        try {
+            if (matcher.group("before") != null) {
+                return LastContactedDateRange.before(LocalDate.parse(matcher.group("before")));
+            } else if (matcher.group("after") != null) {
+                return LastContactedDateRange.after(LocalDate.parse(matcher.group("after")));
+            } else {
+                return LastContactedDateRange.between(LocalDate.parse(matcher.group("from")),
+                        LocalDate.parse(matcher.group("to")));
+            }
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new ParseException(LastContactedDateRange.MESSAGE_CONSTRAINTS);
+        }
     }
 }
@@ -1,13 +1,24 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.AgeRange;
+import seedu.address.model.person.LastContactedDateRange;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndexes;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.SegmentFilter;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.Tag;
 
 /**
  * Wraps all data at the address-book level
@@ -15,7 +26,16 @@ import seedu.address.model.person.UniquePersonList;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    // Enough changes for storage to catch up with many commands at a time; older changes are forgotten
+    private static final int MAX_CHANGE_LOG_SIZE = 1000;
+
     private final UniquePersonList persons;
+    // Identifies this address book's history, e.g. to snapshots and copies, without referring to the address book
+    private final Object origin = new Object();
+    private long version;
+    private ChangeLog changeLog = ChangeLog.empty(MAX_CHANGE_LOG_SIZE, 0);
+    // The last snapshot taken, which the next one is worked out from; null if there is none
+    private AddressBookSnapshot lastSnapshot;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -46,15 +66,57 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        recordChange(AddressBookChange.reset(version + 1));
+    }
+
+    /**
+     * Replaces the contents of the person list with {@code persons}, whose trigram and tag indexes are
+     * {@code indexes}, so that they need not be built again.
+     * See {@link UniquePersonList#setPersons(List, PersonIndexes)}.
+     */
+    public void setPersons(List<Person> persons, PersonIndexes indexes) {
+        this.persons.setPersons(persons, indexes);
+        recordChange(AddressBookChange.reset(version + 1));
     }
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * The indexes {@code newData} has for its persons are reused.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
+        if (newData instanceof AddressBook) {
+            persons.setPersons(((AddressBook) newData).persons);
+        } else {
+            Optional<PersonIndexes> indexes = newData.getIndexes();
+            if (indexes.isPresent()) {
+                persons.setPersons(newData.getPersonList(), indexes.get());
+            } else {
+                persons.setPersons(newData.getPersonList());
+            }
+        }
+        Object newDataOrigin = newData.getOrigin();
+        recordChange(newDataOrigin == null
+                ? AddressBookChange.reset(version + 1)
+                : AddressBookChange.copied(version + 1, newDataOrigin, newData.getVersion()));
+    }
+
+    /**
+     * Gives the persons the trigram and tag indexes {@code indexes}, so that they need not be built again.
+     * The persons are not changed, so no change is recorded.
+     * See {@link UniquePersonList#setIndexes(PersonIndexes)}.
+     */
+    public void setIndexes(PersonIndexes indexes) {
+        persons.setIndexes(indexes);
+    }
+
+    /**
+     * Starts building the indexes of the persons in the background.
+     * See {@link UniquePersonList#buildIndexesInBackground()}.
+     */
+    public void buildIndexesInBackground() {
+        persons.buildIndexesInBackground();
     }
 
     //// person-level operations
@@ -72,8 +134,27 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public boolean hasPersonWithPhone(Person person) {
         requireNonNull(person);
-        return persons.asUnmodifiableObservableList().stream()
-                .anyMatch(p -> p.hasSamePhone(person));
+        return persons.containsSamePhone(person);
+    }
+
+    /**
+     * Returns true if a person other than {@code excludedPerson} has the same name as {@code person}.
+     * {@code excludedPerson} must exist in the address book.
+     */
+    public boolean hasOtherPersonWithName(Person excludedPerson, Person person) {
+        requireAllNonNull(excludedPerson, person);
+        int ownMatch = excludedPerson.getName().equals(person.getName()) ? 1 : 0;
+        return persons.countPersonsWithName(person.getName()) > ownMatch;
+    }
+
+    /**
+     * Returns true if a person other than {@code excludedPerson} has the same phone number as {@code person}.
+     * {@code excludedPerson} must exist in the address book.
+     */
+    public boolean hasOtherPersonWithPhone(Person excludedPerson, Person person) {
+        requireAllNonNull(excludedPerson, person);
+        int ownMatch = excludedPerson.getPhone().equals(person.getPhone()) ? 1 : 0;
+        return persons.countPersonsWithPhone(person.getPhone()) > ownMatch;
     }
 
     /**
@@ -84,12 +165,67 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.containsSameEmail(person);
     }
 
+    /**
+     * Returns the persons that may contain any of {@code keywords} in their searchable fields.
+     * See {@link UniquePersonList#getSearchCandidates(Collection)}.
+     */
+    public Optional<Set<Person>> getSearchCandidates(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return persons.getSearchCandidates(keywords);
+    }
+
+    /**
+     * Returns the persons tagged with {@code tag}.
+     * See {@link UniquePersonList#getPersonsWithTag(Tag)}.
+     */
+    public Set<Person> getPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return persons.getPersonsWithTag(tag);
+    }
+
+    /**
+     * Returns the persons last contacted within {@code range}.
+     * See {@link UniquePersonList#getPersonsLastContactedWithin(LastContactedDateRange)}.
+     */
+    public Set<Person> getPersonsLastContactedWithin(LastContactedDateRange range) {
+        requireNonNull(range);
+        return persons.getPersonsLastContactedWithin(range);
+    }
+
+    /**
+     * Returns the persons whose age is within {@code range}.
+     * See {@link UniquePersonList#getPersonsAgedWithin(AgeRange)}.
+     */
+    public Set<Person> getPersonsAgedWithin(AgeRange range) {
+        requireNonNull(range);
+        return persons.getPersonsAgedWithin(range);
+    }
+
+    /**
+     * Returns the persons in the segment {@code filter}.
+     * See {@link UniquePersonList#getPersonsInSegment(SegmentFilter)}.
+     */
+    public Set<Person> getPersonsInSegment(SegmentFilter filter) {
+        requireNonNull(filter);
+        return persons.getPersonsInSegment(filter);
+    }
+
+    /**
+     * Returns a filter matching the persons that {@code query} matches, planned with the indexes of the persons.
+     * See {@link UniquePersonList#planQuery(PersonQuery)}.
+     */
+    public Predicate<Person> planQuery(PersonQuery query) {
+        requireNonNull(query);
+        return persons.planQuery(query);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        recordChange(AddressBookChange.added(version + 1, p));
     }
 
     /**
@@ -101,6 +237,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        recordChange(AddressBookChange.replaced(version + 1, target, editedPerson));
     }
 
     /**
@@ -109,6 +246,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        recordChange(AddressBookChange.removed(version + 1, key));
+    }
+
+    private void recordChange(AddressBookChange change) {
+        version = change.getVersion();
+        changeLog = changeLog.append(change);
     }
 
     //// util methods
@@ -125,6 +268,57 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public Optional<PersonIndexes> getIndexes() {
+        return persons.getIndexes();
+    }
+
+    @Override
+    public Object getOrigin() {
+        return origin;
+    }
+
+    /**
+     * Returns the changes made after {@code version}, oldest first.
+     * Only the most recent {@value #MAX_CHANGE_LOG_SIZE} changes are kept.
+     */
+    @Override
+    public Optional<List<AddressBookChange>> getChangesSince(long version) {
+        return changeLog.changesSince(version);
+    }
+
+    /**
+     * Returns an immutable copy of this address book as it is now, including its version and known changes.
+     * The copy is made from the last snapshot and the changes made since, so that its cost grows with those changes,
+     * unless they include a replacement of all the persons or too many changes have piled up; only then is the list
+     * of references to the persons copied, as persons are immutable.
+     */
+    @Override
+    public ReadOnlyAddressBook snapshot() {
+        if (lastSnapshot != null && lastSnapshot.getVersion() == version) {
+            return lastSnapshot;
+        }
+
+        PersonIndexes indexes = persons.getIndexes().orElse(null);
+        Optional<List<AddressBookChange>> changes = lastSnapshot == null
+                ? Optional.empty()
+                : getChangesSince(lastSnapshot.getVersion());
+        if (changes.isPresent()
+                && lastSnapshot.getPendingChangeCount() + changes.get().size() <= MAX_CHANGE_LOG_SIZE
+                && changes.get().stream().noneMatch(change -> change.getType() == AddressBookChange.Type.RESET)) {
+            lastSnapshot = new AddressBookSnapshot(lastSnapshot, changes.get(), version, changeLog, indexes);
+        } else {
+            lastSnapshot = new AddressBookSnapshot(origin, persons.asUnmodifiableObservableList(), version, changeLog,
+                    indexes);
+        }
+        return lastSnapshot;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
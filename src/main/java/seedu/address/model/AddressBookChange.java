@@ -0,0 +1,158 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * A single change made to an {@code AddressBook}, numbered by the version of the address book it produced.
+ * Replaying the changes of an address book in order, starting from its contents at some version,
+ * gives its contents at any later version.
+ */
+public class AddressBookChange {
+
+    /**
+     * The kinds of change an address book can undergo.
+     */
+    public enum Type {
+        /** {@code person} was appended to the end of the list. */
+        ADD,
+        /** {@code target} was removed from the list. */
+        REMOVE,
+        /** {@code target} was replaced in place by {@code person}. */
+        SET,
+        /** The whole list was replaced; the change itself does not record the new contents. */
+        RESET
+    }
+
+    private final long version;
+    private final Type type;
+    private final Person target;
+    private final Person person;
+    // The origin of the address book a RESET change copied its contents from, and its version at the time;
+    // null if unknown
+    private final Object source;
+    private final long sourceVersion;
+
+    private AddressBookChange(long version, Type type, Person target, Person person, Object source,
+            long sourceVersion) {
+        this.version = version;
+        this.type = type;
+        this.target = target;
+        this.person = person;
+        this.source = source;
+        this.sourceVersion = sourceVersion;
+    }
+
+    private AddressBookChange(long version, Type type, Person target, Person person) {
+        this(version, type, target, person, null, 0);
+    }
+
+    /**
+     * Returns the change that added {@code person}.
+     */
+    public static AddressBookChange added(long version, Person person) {
+        requireNonNull(person);
+        return new AddressBookChange(version, Type.ADD, null, person);
+    }
+
+    /**
+     * Returns the change that removed {@code target}.
+     */
+    public static AddressBookChange removed(long version, Person target) {
+        requireNonNull(target);
+        return new AddressBookChange(version, Type.REMOVE, target, null);
+    }
+
+    /**
+     * Returns the change that replaced {@code target} with {@code person}.
+     */
+    public static AddressBookChange replaced(long version, Person target, Person person) {
+        requireNonNull(target);
+        requireNonNull(person);
+        return new AddressBookChange(version, Type.SET, target, person);
+    }
+
+    /**
+     * Returns the change that replaced all the persons in the address book.
+     */
+    public static AddressBookChange reset(long version) {
+        return new AddressBookChange(version, Type.RESET, null, null);
+    }
+
+    /**
+     * Returns the change that replaced all the persons in the address book with a copy of those of the address book
+     * whose {@link ReadOnlyAddressBook#getOrigin()} is {@code source}, as they were at {@code sourceVersion}.
+     */
+    public static AddressBookChange copied(long version, Object source, long sourceVersion) {
+        requireNonNull(source);
+        return new AddressBookChange(version, Type.RESET, null, null, source, sourceVersion);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the person removed or replaced by this change, or null for other types of change.
+     */
+    public Person getTarget() {
+        return target;
+    }
+
+    /**
+     * Returns the person added by this change, or the person a {@code SET} change put in place of the target,
+     * or null for other types of change.
+     */
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Returns true if this change replaced all the persons with a copy of those of the address book with
+     * {@code origin} at {@code originVersion}, so that the changes after it continue from that version.
+     */
+    public boolean isCopyOf(Object origin, long originVersion) {
+        return type == Type.RESET && source != null && source == origin && sourceVersion == originVersion;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookChange)) {
+            return false;
+        }
+
+        AddressBookChange otherChange = (AddressBookChange) other;
+        return version == otherChange.version
+                && type == otherChange.type
+                && Objects.equals(target, otherChange.target)
+                && Objects.equals(person, otherChange.person);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(version, type, target, person);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("version", version)
+                .add("type", type)
+                .add("target", target)
+                .add("person", person)
+                .toString();
+    }
+}
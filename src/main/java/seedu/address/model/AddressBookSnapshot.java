@@ -0,0 +1,178 @@
+package seedu.address.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndexes;
+
+/**
+ * An immutable copy of an address book at one version, which can be read safely from any thread while the
+ * original address book goes on changing.
+ *
+ * A snapshot taken after an earlier one of the same address book need not copy its persons: it holds the changes
+ * made since the earlier snapshot, and only works out its persons from those of the earlier snapshot when they are
+ * first read, e.g. on the thread that saves it. Taking such a snapshot costs as much as the changes it holds.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    // Held while working out persons, so that no earlier snapshot drops its base while a later one reads it
+    private static final Object WORK_OUT_LOCK = new Object();
+
+    private final Object origin;
+    private final long version;
+    private final ChangeLog changeLog;
+    private final PersonIndexes indexes;
+    // The number of changes between this snapshot and the nearest earlier one whose persons are already worked out
+    private final int pendingChangeCount;
+    private final List<AddressBookChange> changes;
+    // The earlier snapshot the persons are worked out from, until they are; null once they are
+    private AddressBookSnapshot base;
+    // Null until the persons are worked out from the base
+    private volatile ObservableList<Person> persons;
+
+    /**
+     * Copies {@code persons}. {@code changeLog} holds the most recent changes that led up to {@code version}.
+     *
+     * @param indexes the indexes of {@code persons}, or null if they are not built.
+     */
+    AddressBookSnapshot(Object origin, List<Person> persons, long version, ChangeLog changeLog,
+            PersonIndexes indexes) {
+        this.origin = origin;
+        this.version = version;
+        this.changeLog = changeLog;
+        this.indexes = indexes;
+        this.pendingChangeCount = 0;
+        this.changes = List.of();
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(List.copyOf(persons)));
+    }
+
+    /**
+     * Creates the snapshot of the address book {@code base} was taken of, after {@code changes} were made to it.
+     * {@code changes} must not hold a {@code RESET} change, as those do not record the new persons.
+     */
+    AddressBookSnapshot(AddressBookSnapshot base, List<AddressBookChange> changes, long version,
+            ChangeLog changeLog, PersonIndexes indexes) {
+        assert changes.stream().noneMatch(change -> change.getType() == AddressBookChange.Type.RESET);
+        this.origin = base.origin;
+        this.version = version;
+        this.changeLog = changeLog;
+        this.indexes = indexes;
+        this.pendingChangeCount = base.getPendingChangeCount() + changes.size();
+        this.changes = changes;
+        this.base = base;
+    }
+
+    /**
+     * Returns the number of changes that have to be applied to work out the persons of this snapshot.
+     */
+    int getPendingChangeCount() {
+        return persons == null ? pendingChangeCount : 0;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        ObservableList<Person> workedOutPersons = persons;
+        return workedOutPersons != null ? workedOutPersons : workOutPersons();
+    }
+
+    /**
+     * Applies the changes of this snapshot, and of the earlier ones whose persons are not worked out yet, to the
+     * persons of the nearest earlier snapshot whose persons are. Drops the earlier snapshots afterwards.
+     * Runs in time linear in the number of persons and changes.
+     */
+    private ObservableList<Person> workOutPersons() {
+        synchronized (WORK_OUT_LOCK) {
+            if (persons == null) {
+                persons = applyPendingChanges();
+                base = null;
+            }
+            return persons;
+        }
+    }
+
+    private ObservableList<Person> applyPendingChanges() {
+        Deque<List<AddressBookChange>> pendingChanges = new ArrayDeque<>();
+        pendingChanges.push(changes);
+        AddressBookSnapshot snapshot = base;
+        while (snapshot.persons == null) {
+            pendingChanges.push(snapshot.changes);
+            snapshot = snapshot.base;
+        }
+
+        List<Person> workedOutPersons = new ArrayList<>(snapshot.persons);
+        // positions of the persons that are replaced or removed, which are removed by leaving a null in their place
+        Map<Person, Integer> positions = new HashMap<>();
+        for (List<AddressBookChange> snapshotChanges : pendingChanges) {
+            for (AddressBookChange change : snapshotChanges) {
+                if (change.getTarget() != null) {
+                    positions.put(change.getTarget(), null);
+                }
+            }
+        }
+        for (int i = 0; i < workedOutPersons.size(); i++) {
+            if (positions.containsKey(workedOutPersons.get(i))) {
+                positions.put(workedOutPersons.get(i), i);
+            }
+        }
+        for (List<AddressBookChange> snapshotChanges : pendingChanges) {
+            for (AddressBookChange change : snapshotChanges) {
+                applyChange(change, workedOutPersons, positions);
+            }
+        }
+        workedOutPersons.removeIf(Objects::isNull);
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(workedOutPersons));
+    }
+
+    private static void applyChange(AddressBookChange change, List<Person> persons, Map<Person, Integer> positions) {
+        switch (change.getType()) {
+        case ADD:
+            positions.put(change.getPerson(), persons.size());
+            persons.add(change.getPerson());
+            break;
+        case REMOVE:
+            persons.set(positions.remove(change.getTarget()), null);
+            break;
+        case SET:
+            int position = positions.remove(change.getTarget());
+            persons.set(position, change.getPerson());
+            positions.put(change.getPerson(), position);
+            break;
+        default:
+            throw new AssertionError("Snapshots do not hold changes of type " + change.getType());
+        }
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public Optional<List<AddressBookChange>> getChangesSince(long version) {
+        return changeLog.changesSince(version);
+    }
+
+    @Override
+    public Optional<PersonIndexes> getIndexes() {
+        return Optional.ofNullable(indexes);
+    }
+
+    @Override
+    public Object getOrigin() {
+        return origin;
+    }
+
+    @Override
+    public ReadOnlyAddressBook snapshot() {
+        return this;
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The most recent changes of an address book, ending at the version it is at.
+ *
+ * A change log is immutable, so that snapshots of the address book can share it instead of copying it.
+ * Appending a change returns a new log, which shares the storage of the old one: changes are written into chunks
+ * of {@code capacity} changes that are never written again once full, and only the last two chunks are kept.
+ * Only the latest log of an address book may be appended to.
+ */
+final class ChangeLog {
+
+    private final int capacity;
+    // The full chunk before the current one, or null if there is none
+    private final AddressBookChange[] olderChunk;
+    // The chunk being filled, or null if no change was appended yet
+    private final AddressBookChange[] chunk;
+    // The number of changes of the current chunk that belong to this log; those after them are not written yet
+    private final int count;
+    private final long latestVersion;
+
+    private ChangeLog(int capacity, AddressBookChange[] olderChunk, AddressBookChange[] chunk, int count,
+            long latestVersion) {
+        this.capacity = capacity;
+        this.olderChunk = olderChunk;
+        this.chunk = chunk;
+        this.count = count;
+        this.latestVersion = latestVersion;
+    }
+
+    /**
+     * Returns an empty log of an address book at {@code version}, which keeps the most recent {@code capacity}
+     * changes.
+     */
+    static ChangeLog empty(int capacity, long version) {
+        return new ChangeLog(capacity, null, null, 0, version);
+    }
+
+    /**
+     * Returns this log with {@code change}, which must be the next change after the latest one, added to it.
+     */
+    ChangeLog append(AddressBookChange change) {
+        requireNonNull(change);
+        assert change.getVersion() == latestVersion + 1 : "Changes must be appended in order";
+        assert chunk == null || count == capacity || chunk[count] == null : "Only the latest log may be appended to";
+
+        if (chunk == null || count == capacity) {
+            AddressBookChange[] newChunk = new AddressBookChange[capacity];
+            newChunk[0] = change;
+            return new ChangeLog(capacity, chunk, newChunk, 1, change.getVersion());
+        }
+        chunk[count] = change;
+        return new ChangeLog(capacity, olderChunk, chunk, count + 1, change.getVersion());
+    }
+
+    /**
+     * Returns the changes made after {@code version}, oldest first, or {@code Optional.empty()} if the log
+     * does not go back that far. Only the most recent {@code capacity} changes are kept.
+     */
+    Optional<List<AddressBookChange>> changesSince(long version) {
+        int knownChangeCount = Math.min(capacity, olderChunk == null ? count : capacity + count);
+        if (version > latestVersion || version < latestVersion - knownChangeCount) {
+            return Optional.empty();
+        }
+
+        int changeCount = (int) (latestVersion - version);
+        List<AddressBookChange> changes = new ArrayList<>(changeCount);
+        // the changes come from the end of the older chunk followed by the start of the current one
+        for (int i = Math.max(0, capacity - (changeCount - count)); i < capacity && changeCount > count; i++) {
+            changes.add(olderChunk[i]);
+        }
+        for (int i = Math.max(0, count - changeCount); i < count; i++) {
+            changes.add(chunk[i]);
+        }
+        return Optional.of(changes);
+    }
+}
@@ -1,12 +1,20 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.AgeRange;
+import seedu.address.model.person.LastContactedDateRange;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.SegmentFilter;
+import seedu.address.model.tag.Tag;
 
 /**
  * The API of the Model component.
@@ -53,6 +61,12 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the version of the address book, which goes up by one with every change made to it.
+     * Commands that leave the version unchanged did not modify the address book.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -63,6 +77,53 @@ public interface Model {
      */
     boolean hasPersonWithPhone(Person person);
 
+    /**
+     * Returns true if a person other than {@code excludedPerson} has the same name as {@code person}.
+     * {@code excludedPerson} must exist in the address book.
+     */
+    boolean hasOtherPersonWithName(Person excludedPerson, Person person);
+
+    /**
+     * Returns true if a person other than {@code excludedPerson} has the same phone number as {@code person}.
+     * {@code excludedPerson} must exist in the address book.
+     */
+    boolean hasOtherPersonWithPhone(Person excludedPerson, Person person);
+
+    /**
+     * Returns the persons in the address book that may contain any of {@code keywords} in their searchable fields,
+     * ignoring case, or {@code Optional.empty()} if the search cannot be narrowed down.
+     * The candidates must still be checked exactly.
+     */
+    Optional<Set<Person>> getSearchCandidates(Collection<String> keywords);
+
+    /**
+     * Returns the persons in the address book tagged with {@code tag}, e.g. every Do Not Call contact.
+     * The returned set is only valid until the address book is next changed.
+     */
+    Set<Person> getPersonsWithTag(Tag tag);
+
+    /**
+     * Returns the persons in the address book last contacted within {@code range}, without testing every person.
+     */
+    Set<Person> getPersonsLastContactedWithin(LastContactedDateRange range);
+
+    /**
+     * Returns the persons in the address book whose age is within {@code range}, without testing every person.
+     */
+    Set<Person> getPersonsAgedWithin(AgeRange range);
+
+    /**
+     * Returns the persons in the address book that are in the segment {@code filter}, without testing every person.
+     */
+    Set<Person> getPersonsInSegment(SegmentFilter filter);
+
+    /**
+     * Returns a filter matching the persons in the address book that {@code query} matches, which looks up the most
+     * selective clause of the query in the indexes of the address book, and tests the other clauses on the persons
+     * found. The filter is only valid until the address book is next changed.
+     */
+    Predicate<Person> planQuery(PersonQuery query);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -91,6 +152,15 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, using
+     * {@code currentMatches} to filter the persons in the list now. {@code currentMatches} must match the same of
+     * those persons as {@code predicate}, e.g. by looking them up in a result computed with the indexes of the model.
+     * Persons added to or edited in the list afterwards are tested with {@code predicate}.
+     * @throws NullPointerException if any argument is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Predicate<Person> currentMatches);
+
     /**
      * Updates the sorted order of the filtered person list using the given {@code comparator}.
      */
@@ -4,7 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -13,7 +16,12 @@ import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.AgeRange;
+import seedu.address.model.person.LastContactedDateRange;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.SegmentFilter;
+import seedu.address.model.tag.Tag;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -91,6 +99,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -103,12 +116,60 @@ public class ModelManager implements Model {
         return addressBook.hasPersonWithPhone(person);
     }
 
+    @Override
+    public boolean hasOtherPersonWithName(Person excludedPerson, Person person) {
+        requireAllNonNull(excludedPerson, person);
+        return addressBook.hasOtherPersonWithName(excludedPerson, person);
+    }
+
+    @Override
+    public boolean hasOtherPersonWithPhone(Person excludedPerson, Person person) {
+        requireAllNonNull(excludedPerson, person);
+        return addressBook.hasOtherPersonWithPhone(excludedPerson, person);
+    }
+
     @Override
     public boolean hasPersonWithEmail(Person person) {
         requireNonNull(person);
         return addressBook.hasPersonWithEmail(person);
     }
 
+    @Override
+    public Optional<Set<Person>> getSearchCandidates(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.getSearchCandidates(keywords);
+    }
+
+    @Override
+    public Set<Person> getPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return addressBook.getPersonsWithTag(tag);
+    }
+
+    @Override
+    public Set<Person> getPersonsLastContactedWithin(LastContactedDateRange range) {
+        requireNonNull(range);
+        return addressBook.getPersonsLastContactedWithin(range);
+    }
+
+    @Override
+    public Set<Person> getPersonsAgedWithin(AgeRange range) {
+        requireNonNull(range);
+        return addressBook.getPersonsAgedWithin(range);
+    }
+
+    @Override
+    public Set<Person> getPersonsInSegment(SegmentFilter filter) {
+        requireNonNull(filter);
+        return addressBook.getPersonsInSegment(filter);
+    }
+
+    @Override
+    public Predicate<Person> planQuery(PersonQuery query) {
+        requireNonNull(query);
+        return addressBook.planQuery(query);
+    }
+
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
@@ -144,6 +205,15 @@ public class ModelManager implements Model {
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Predicate<Person> currentMatches) {
+        requireAllNonNull(predicate, currentMatches);
+        PrecomputedFilter filter = new PrecomputedFilter(predicate, currentMatches);
+        // the filtered list tests every person in the list as the predicate is set, and only changed persons after
+        filteredPersons.setPredicate(filter);
+        filter.forgetCurrentMatches();
+    }
+
     @Override
     public void updateSortedPersonList(Comparator<Person> comparator) {
         sortedPersons.setComparator(comparator);
@@ -166,4 +236,26 @@ public class ModelManager implements Model {
                 && filteredPersons.equals(otherModelManager.filteredPersons);
     }
 
+    /**
+     * A filter that tests persons with a precomputed result until told to forget it, and with the predicate the
+     * result was computed for from then on.
+     */
+    private static class PrecomputedFilter implements Predicate<Person> {
+        private final Predicate<Person> predicate;
+        private Predicate<Person> currentMatches;
+
+        PrecomputedFilter(Predicate<Person> predicate, Predicate<Person> currentMatches) {
+            this.predicate = predicate;
+            this.currentMatches = currentMatches;
+        }
+
+        void forgetCurrentMatches() {
+            currentMatches = null;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return currentMatches != null ? currentMatches.test(person) : predicate.test(person);
+        }
+    }
 }
@@ -1,7 +1,11 @@
 package seedu.address.model;
 
+import java.util.List;
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndexes;
 
 /**
  * Unmodifiable view of an address book
@@ -14,4 +18,45 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the version of the address book, which goes up by one with every change made to it.
+     * Address books that do not keep track of their changes are always at version 0.
+     */
+    default long getVersion() {
+        return 0;
+    }
+
+    /**
+     * Returns the changes made to the address book after {@code version}, oldest first,
+     * or {@code Optional.empty()} if some of those changes are no longer known.
+     */
+    default Optional<List<AddressBookChange>> getChangesSince(long version) {
+        return version == getVersion() ? Optional.of(List.of()) : Optional.empty();
+    }
+
+    /**
+     * Returns the token of the address book whose history the versions and changes of this address book belong to,
+     * to be compared by identity, or null if this address book does not keep track of its changes.
+     * A snapshot has the origin of the address book it was taken of. The token does not refer to that address book,
+     * so holding on to it does not keep the address book in memory.
+     */
+    default Object getOrigin() {
+        return null;
+    }
+
+    /**
+     * Returns the trigram and tag indexes of the persons, if they are already built.
+     */
+    default Optional<PersonIndexes> getIndexes() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns an immutable copy of the address book as it is now, with the same origin and version.
+     */
+    default ReadOnlyAddressBook snapshot() {
+        return new AddressBookSnapshot(getOrigin(), getPersonList(), getVersion(), ChangeLog.empty(0, getVersion()),
+                getIndexes().orElse(null));
+    }
+
 }
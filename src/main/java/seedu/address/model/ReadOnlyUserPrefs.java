@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 
+import seedu.address.commons.core.AddressBookFileFormat;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -13,4 +14,21 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns true if the address book file is to be written without indentation, which makes it smaller and
+     * faster to write, but harder to read.
+     */
+    boolean isCompactAddressBookFile();
+
+    /**
+     * Returns true if the address book file is to be compressed with GZIP, which makes it much smaller, at the cost
+     * of some time to compress and decompress it. Compressed files are recognised when read either way.
+     */
+    boolean isCompressedAddressBookFile();
+
+    /**
+     * Returns the format in which the address book file is read and written.
+     */
+    AddressBookFileFormat getAddressBookFileFormat();
+
 }
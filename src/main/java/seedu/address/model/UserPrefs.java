@@ -6,6 +6,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.address.commons.core.AddressBookFileFormat;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -15,6 +16,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "insurabook.json");
+    private boolean compactAddressBookFile = false;
+    private boolean compressedAddressBookFile = false;
+    private AddressBookFileFormat addressBookFileFormat = AddressBookFileFormat.JSON;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +40,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setCompactAddressBookFile(newUserPrefs.isCompactAddressBookFile());
+        setCompressedAddressBookFile(newUserPrefs.isCompressedAddressBookFile());
+        setAddressBookFileFormat(newUserPrefs.getAddressBookFileFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +63,31 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public boolean isCompactAddressBookFile() {
+        return compactAddressBookFile;
+    }
+
+    public void setCompactAddressBookFile(boolean compactAddressBookFile) {
+        this.compactAddressBookFile = compactAddressBookFile;
+    }
+
+    public boolean isCompressedAddressBookFile() {
+        return compressedAddressBookFile;
+    }
+
+    public void setCompressedAddressBookFile(boolean compressedAddressBookFile) {
+        this.compressedAddressBookFile = compressedAddressBookFile;
+    }
+
+    public AddressBookFileFormat getAddressBookFileFormat() {
+        return addressBookFileFormat;
+    }
+
+    public void setAddressBookFileFormat(AddressBookFileFormat addressBookFileFormat) {
+        requireNonNull(addressBookFileFormat);
+        this.addressBookFileFormat = addressBookFileFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +101,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && compactAddressBookFile == otherUserPrefs.compactAddressBookFile
+                && compressedAddressBookFile == otherUserPrefs.compressedAddressBookFile
+                && addressBookFileFormat == otherUserPrefs.addressBookFileFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, compactAddressBookFile, compressedAddressBookFile,
+                addressBookFileFormat);
     }
 
     @Override
@@ -82,6 +118,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nCompact data file : " + compactAddressBookFile);
+        sb.append("\nCompressed data file : " + compressedAddressBookFile);
+        sb.append("\nData file format : " + addressBookFileFormat);
         return sb.toString();
     }
 
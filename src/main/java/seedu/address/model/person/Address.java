@@ -19,6 +19,9 @@ public class Address {
      */
     public static final String VALIDATION_REGEX = "^[a-zA-Z0-9][a-zA-Z0-9 ,.\\-#/]*$";
 
+    /** The address of a person without one, shared by all such persons. */
+    public static final Address EMPTY = new Address("");
+
     public final String value;
 
     /**
@@ -32,6 +35,14 @@ public class Address {
         value = address;
     }
 
+    /**
+     * Returns an {@code Address} holding {@code value}, sharing {@link #EMPTY} if {@code value} is empty.
+     */
+    public static Address of(String value) {
+        requireNonNull(value);
+        return value.isEmpty() ? EMPTY : new Address(value);
+    }
+
     /**
      * Returns true if a given string is a valid address.
      */
@@ -14,8 +14,18 @@ public class Age {
     public static final String VALIDATION_REGEX = "\\d{1,3}";
     public static final int MIN_AGE = 10;
     public static final int MAX_AGE = 120;
+
+    /** The {@link #years} of a person without an age, which is below every valid age. */
+    public static final int NO_YEARS = 0;
+
+    /** The age of a person without one, shared by all such persons. */
+    public static final Age EMPTY = new Age("");
+
     public final String value;
 
+    // The age as a number, so that ages compare without being parsed, or NO_YEARS
+    public final int years;
+
     /**
      * Constructs an {@code Age}.
      *
@@ -26,14 +36,25 @@ public class Age {
 
         if (age.isEmpty()) {
             value = age;
+            years = NO_YEARS;
         } else {
             // Remove leading zeros by parsing as integer and converting back to string
-            String normalizedAge = String.valueOf(Integer.parseInt(age));
+            int parsedAge = Integer.parseInt(age);
+            String normalizedAge = String.valueOf(parsedAge);
             checkArgument(isValidAge(normalizedAge), MESSAGE_CONSTRAINTS);
             value = normalizedAge;
+            years = parsedAge;
         }
     }
 
+    /**
+     * Returns an {@code Age} holding {@code value}, sharing {@link #EMPTY} if {@code value} is empty.
+     */
+    public static Age of(String value) {
+        requireNonNull(value);
+        return value.isEmpty() ? EMPTY : new Age(value);
+    }
+
     /**
      * Returns true if a given string is a valid age.
      * Valid age must be empty or a number between 10 and 120 (inclusive).
@@ -0,0 +1,89 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person}'s {@code Age} falls within a range of ages, both ends inclusive.
+ * The range can be looked up in the age index of {@link UniquePersonList} instead of testing every person.
+ * Persons without an age are never in a range.
+ */
+public class AgeRange implements Predicate<Person> {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Age range should be AGE or MIN-MAX, e.g. 30-45, where each age is between " + Age.MIN_AGE + " and "
+            + Age.MAX_AGE + " (inclusive) and MIN is not more than MAX.";
+
+    private final int minYears;
+    private final int maxYears;
+
+    /**
+     * Creates a range of the ages from {@code minYears} to {@code maxYears}, both inclusive.
+     * Both must be valid ages, and {@code minYears} must not be more than {@code maxYears}.
+     */
+    public AgeRange(int minYears, int maxYears) {
+        checkArgument(isValidAgeRange(minYears, maxYears), MESSAGE_CONSTRAINTS);
+        this.minYears = minYears;
+        this.maxYears = maxYears;
+    }
+
+    /**
+     * Returns true if the ages from {@code minYears} to {@code maxYears} make a valid range.
+     */
+    public static boolean isValidAgeRange(int minYears, int maxYears) {
+        return minYears >= Age.MIN_AGE && maxYears <= Age.MAX_AGE && minYears <= maxYears;
+    }
+
+    public int getMinYears() {
+        return minYears;
+    }
+
+    public int getMaxYears() {
+        return maxYears;
+    }
+
+    /**
+     * Returns a description of the range that reads after "persons", e.g. "aged 30 to 45".
+     */
+    public String getDescription() {
+        return minYears == maxYears ? "aged " + minYears : "aged " + minYears + " to " + maxYears;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        Age age = person.getAge();
+        return age != null && age.years >= minYears && age.years <= maxYears;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AgeRange)) {
+            return false;
+        }
+
+        AgeRange otherRange = (AgeRange) other;
+        return minYears == otherRange.minYears
+                && maxYears == otherRange.maxYears;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * minYears + maxYears;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("minYears", minYears)
+                .add("maxYears", maxYears)
+                .toString();
+    }
+}
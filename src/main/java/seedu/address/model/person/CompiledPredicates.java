@@ -0,0 +1,81 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Combines compiled tests on persons into flat predicates that do not allocate when tested.
+ * Two or three operands are unrolled into a single expression, so that the JIT can inline each of them; more operands
+ * are tested in a loop over an array.
+ */
+final class CompiledPredicates {
+
+    private CompiledPredicates() {}
+
+    /**
+     * Returns a predicate matching persons matched by every one of {@code operands}, tested in their order.
+     */
+    static Predicate<Person> allOf(List<Predicate<Person>> operands) {
+        switch (operands.size()) {
+        case 0:
+            return person -> true;
+        case 1:
+            return operands.get(0);
+        case 2:
+            Predicate<Person> first = operands.get(0);
+            Predicate<Person> second = operands.get(1);
+            return person -> first.test(person) && second.test(person);
+        case 3:
+            Predicate<Person> one = operands.get(0);
+            Predicate<Person> two = operands.get(1);
+            Predicate<Person> three = operands.get(2);
+            return person -> one.test(person) && two.test(person) && three.test(person);
+        default:
+            Predicate<Person>[] tests = toArray(operands);
+            return person -> {
+                for (Predicate<Person> test : tests) {
+                    if (!test.test(person)) {
+                        return false;
+                    }
+                }
+                return true;
+            };
+        }
+    }
+
+    /**
+     * Returns a predicate matching persons matched by any of {@code operands}, tested in their order.
+     */
+    static Predicate<Person> anyOf(List<Predicate<Person>> operands) {
+        switch (operands.size()) {
+        case 0:
+            return person -> false;
+        case 1:
+            return operands.get(0);
+        case 2:
+            Predicate<Person> first = operands.get(0);
+            Predicate<Person> second = operands.get(1);
+            return person -> first.test(person) || second.test(person);
+        case 3:
+            Predicate<Person> one = operands.get(0);
+            Predicate<Person> two = operands.get(1);
+            Predicate<Person> three = operands.get(2);
+            return person -> one.test(person) || two.test(person) || three.test(person);
+        default:
+            Predicate<Person>[] tests = toArray(operands);
+            return person -> {
+                for (Predicate<Person> test : tests) {
+                    if (test.test(person)) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Predicate<Person>[] toArray(List<Predicate<Person>> operands) {
+        return operands.toArray(new Predicate[0]);
+    }
+}
@@ -33,6 +33,9 @@ public class Email {
     private static final String DOMAIN_REGEX = "(" + DOMAIN_PART_REGEX + "\\.)*" + DOMAIN_LAST_PART_REGEX;
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
 
+    /** The email of a person without one, shared by all such persons. */
+    public static final Email EMPTY = new Email("");
+
     public final String value;
 
     /**
@@ -46,6 +49,14 @@ public class Email {
         value = email;
     }
 
+    /**
+     * Returns an {@code Email} holding {@code value}, sharing {@link #EMPTY} if {@code value} is empty.
+     */
+    public static Email of(String value) {
+        requireNonNull(value);
+        return value.isEmpty() ? EMPTY : new Email(value);
+    }
+
     /**
      * Returns if a given string is a valid email.
      */
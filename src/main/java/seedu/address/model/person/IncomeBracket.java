@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Arrays;
+
 /**
  * Represents a Person's income bracket in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidIncomeBracket(String)}
@@ -37,6 +39,10 @@ public class IncomeBracket {
         }
     }
 
+    private static final IncomeBracket[] INSTANCES = Arrays.stream(Level.values())
+            .map(IncomeBracket::new)
+            .toArray(IncomeBracket[]::new);
+
     public final Level value;
 
     /**
@@ -62,6 +68,25 @@ public class IncomeBracket {
         value = incomeBracket;
     }
 
+    /**
+     * Returns the shared {@code IncomeBracket} of the given level.
+     */
+    public static IncomeBracket of(Level incomeBracket) {
+        requireNonNull(incomeBracket);
+        return INSTANCES[incomeBracket.ordinal()];
+    }
+
+    /**
+     * Returns the shared {@code IncomeBracket} named by {@code incomeBracket}, e.g. "low", ignoring case.
+     *
+     * @param incomeBracket A valid income bracket level.
+     */
+    public static IncomeBracket of(String incomeBracket) {
+        requireNonNull(incomeBracket);
+        checkArgument(isValidIncomeBracket(incomeBracket), MESSAGE_CONSTRAINTS);
+        return of(parseIncomeBracket(incomeBracket.toLowerCase().trim()));
+    }
+
     /**
      * Returns true if a given string is a valid income bracket.
      */
@@ -98,7 +123,7 @@ public class IncomeBracket {
         if (!isValidIncomeBracket(incomeBracket)) {
             throw new IllegalArgumentException("Invalid income bracket: " + incomeBracket);
         }
-        return new IncomeBracket(parseIncomeBracket(incomeBracket.toLowerCase().trim()));
+        return of(parseIncomeBracket(incomeBracket.toLowerCase().trim()));
     }
 
     /**
@@ -17,6 +17,12 @@ public class LastContactedDate {
             "Last contacted date should be in YYYY-MM-DD format (e.g., 2025-09-20), "
             + "should be a valid calendar date, and cannot be a future date.";
 
+    /** The {@link #epochDay} of a person never contacted, which is before the epoch day of every date. */
+    public static final int NO_EPOCH_DAY = Integer.MIN_VALUE;
+
+    /** The last contacted date of a person never contacted, shared by all such persons. */
+    public static final LastContactedDate EMPTY = new LastContactedDate("");
+
     // Using ISO standard YYYY-MM-DD
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
 
@@ -26,6 +32,9 @@ public class LastContactedDate {
     // Null or empty string to represent no date set as its optional at the start
     public final String value;
 
+    // The date as a number of days since 1970-01-01, so that dates compare without being parsed, or NO_EPOCH_DAY
+    public final int epochDay;
+
     /**
      * Constructs a {@code LastContactedDate}.
      *
@@ -37,9 +46,20 @@ public class LastContactedDate {
         checkArgument(isValidLastContactedDate(dateString), MESSAGE_CONSTRAINTS);
         assert isValidLastContactedDate(dateString) : MESSAGE_CONSTRAINTS;
         this.value = dateString;
+        this.epochDay = dateString.isEmpty()
+                ? NO_EPOCH_DAY
+                : Math.toIntExact(LocalDate.parse(dateString, FORMATTER).toEpochDay());
         assert this.value != null;
     }
 
+    /**
+     * Returns a {@code LastContactedDate} holding {@code value}, sharing {@link #EMPTY} if {@code value} is empty.
+     */
+    public static LastContactedDate of(String value) {
+        requireNonNull(value);
+        return value.isEmpty() ? EMPTY : new LastContactedDate(value);
+    }
+
     /**
      * Returns true if a given string is a valid date in YYYY-MM-DD format, or an empty string.
      * The date must not be in the future (based on Singapore timezone).
@@ -97,6 +117,4 @@ public class LastContactedDate {
     public int hashCode() {
         return Objects.hash(value);
     }
-
-
 }
@@ -0,0 +1,126 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person}'s {@code LastContactedDate} falls within a range of dates.
+ * The range is held as epoch days, both ends inclusive, so that it can be looked up in the date index of
+ * {@link UniquePersonList} instead of testing every person. Persons never contacted are only in {@link #never()}.
+ */
+public class LastContactedDateRange implements Predicate<Person> {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Last contacted date range should be 'never', 'before DATE', 'after DATE' or 'DATE to DATE', "
+            + "where each DATE is in YYYY-MM-DD format and the first DATE is not after the second.";
+
+    private static final int FIRST_EPOCH_DAY = LastContactedDate.NO_EPOCH_DAY + 1;
+    private static final int LAST_EPOCH_DAY = Integer.MAX_VALUE;
+
+    private final int fromEpochDay;
+    private final int toEpochDay;
+    private final String description;
+
+    private LastContactedDateRange(int fromEpochDay, int toEpochDay, String description) {
+        this.fromEpochDay = fromEpochDay;
+        this.toEpochDay = toEpochDay;
+        this.description = description;
+    }
+
+    /**
+     * Returns the range of persons last contacted before {@code date}, not including it.
+     */
+    public static LastContactedDateRange before(LocalDate date) {
+        requireNonNull(date);
+        return new LastContactedDateRange(FIRST_EPOCH_DAY, toEpochDay(date) - 1, "last contacted before " + date);
+    }
+
+    /**
+     * Returns the range of persons last contacted after {@code date}, not including it.
+     */
+    public static LastContactedDateRange after(LocalDate date) {
+        requireNonNull(date);
+        return new LastContactedDateRange(toEpochDay(date) + 1, LAST_EPOCH_DAY, "last contacted after " + date);
+    }
+
+    /**
+     * Returns the range of persons last contacted from {@code from} to {@code to}, both inclusive.
+     * {@code from} must not be after {@code to}.
+     */
+    public static LastContactedDateRange between(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        checkArgument(!from.isAfter(to), MESSAGE_CONSTRAINTS);
+        return new LastContactedDateRange(toEpochDay(from), toEpochDay(to),
+                "last contacted from " + from + " to " + to);
+    }
+
+    /**
+     * Returns the range of persons never contacted.
+     */
+    public static LastContactedDateRange never() {
+        return new LastContactedDateRange(LastContactedDate.NO_EPOCH_DAY, LastContactedDate.NO_EPOCH_DAY,
+                "never contacted");
+    }
+
+    public int getFromEpochDay() {
+        return fromEpochDay;
+    }
+
+    public int getToEpochDay() {
+        return toEpochDay;
+    }
+
+    /**
+     * Returns a description of the range that reads after "persons", e.g. "last contacted before 2025-01-01".
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        int epochDay = person.getLastContactedDate().epochDay;
+        return epochDay >= fromEpochDay && epochDay <= toEpochDay;
+    }
+
+    private static int toEpochDay(LocalDate date) {
+        int epochDay = Math.toIntExact(date.toEpochDay());
+        checkArgument(epochDay > FIRST_EPOCH_DAY && epochDay < LAST_EPOCH_DAY, MESSAGE_CONSTRAINTS);
+        return epochDay;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LastContactedDateRange)) {
+            return false;
+        }
+
+        LastContactedDateRange otherRange = (LastContactedDateRange) other;
+        return fromEpochDay == otherRange.fromEpochDay
+                && toEpochDay == otherRange.toEpochDay;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * fromEpochDay + toEpochDay;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("fromEpochDay", fromEpochDay)
+                .add("toEpochDay", toEpochDay)
+                .toString();
+    }
+}
@@ -18,6 +18,9 @@ public class Occupation {
      */
     public static final String VALIDATION_REGEX = "^[a-zA-Z]+( [a-zA-Z]+)*$";
 
+    /** The occupation of a person without one, shared by all such persons. */
+    public static final Occupation EMPTY = new Occupation("");
+
     public final String value;
 
     /**
@@ -37,6 +40,14 @@ public class Occupation {
         value = trimmed;
     }
 
+    /**
+     * Returns an {@code Occupation} holding {@code value}, sharing {@link #EMPTY} if {@code value} is blank.
+     */
+    public static Occupation of(String value) {
+        requireNonNull(value);
+        return value.trim().isEmpty() ? EMPTY : new Occupation(value);
+    }
+
     /**
      * Returns true if a given string is a valid occupation.
      */
@@ -2,14 +2,15 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.model.tag.DncTag;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagDictionary;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Person in the address book.
@@ -25,12 +26,15 @@ public class Person {
     // Data fields
     private final Address address;
     private final Occupation occupation;
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
     private final Priority priority;
     private final Age age;
     private final IncomeBracket incomeBracket;
     private final LastContactedDate lastContactedDate;
 
+    // Lower-cased text of every searchable field, computed once so that searches do not allocate
+    private final String[] searchKeys;
+
     /**
      * Most fields must be present and not null. IncomeBracket can be null.
      */
@@ -45,8 +49,9 @@ public class Person {
         this.priority = priority;
         this.incomeBracket = incomeBracket; // Can be null
         this.age = age;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
         this.lastContactedDate = lastContactedDate;
+        this.searchKeys = buildSearchKeys();
     }
 
     public Occupation getOccupation() {
@@ -85,13 +90,21 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     public LastContactedDate getLastContactedDate() {
         return lastContactedDate;
     }
 
+    /**
+     * Returns the lower-cased name, phone, email, address, occupation, age, last contacted date and tag names of this
+     * person. The returned array is shared and must not be modified.
+     */
+    String[] getSearchKeys() {
+        return searchKeys;
+    }
+
     /**
      * Returns true if both persons have the same name.
      * This defines a weaker notion of equality between two persons.
@@ -182,7 +195,24 @@ public class Person {
      * Returns true if this person is marked as Do Not Call.
      */
     public boolean isDncTagged() {
-        return tags.stream().anyMatch(t -> t instanceof DncTag);
+        return tags.containsId(TagDictionary.DNC_TAG_ID);
+    }
+
+    private String[] buildSearchKeys() {
+        List<String> keys = new ArrayList<>(7 + tags.size());
+        keys.add(name.fullName);
+        keys.add(phone.value);
+        keys.add(email.value);
+        keys.add(address.value);
+        keys.add(occupation.value);
+        if (age != null) {
+            keys.add(age.value);
+        }
+        keys.add(lastContactedDate.value);
+        for (Tag tag : tags) {
+            keys.add(tag.tagName);
+        }
+        return keys.stream().map(String::toLowerCase).toArray(String[]::new);
     }
 
 }
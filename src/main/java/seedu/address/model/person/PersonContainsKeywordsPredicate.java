@@ -1,9 +1,11 @@
 package seedu.address.model.person;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.util.List;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.KeywordMatcher;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -12,23 +14,34 @@ import seedu.address.commons.util.ToStringBuilder;
  */
 public class PersonContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final boolean hasEmptyKeyword;
+    private final Predicate<String> matcher;
 
+    /**
+     * Creates a predicate matching persons that contain any of {@code keywords}.
+     * The keywords are compiled once here into a matcher specialized for their number, which tests each field of a
+     * person without allocating.
+     */
     public PersonContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.hasEmptyKeyword = keywords.stream().anyMatch(keyword -> keyword.trim().isEmpty());
+        this.matcher = KeywordMatcher.compile(keywords);
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsSubstringIgnoreCase(person.getName().fullName, keyword)
-                || StringUtil.containsSubstringIgnoreCase(person.getPhone().value, keyword)
-                || StringUtil.containsSubstringIgnoreCase(person.getEmail().value, keyword)
-                || StringUtil.containsSubstringIgnoreCase(person.getAddress().value, keyword)
-                || StringUtil.containsSubstringIgnoreCase(person.getOccupation().value, keyword)
-                || StringUtil.containsSubstringIgnoreCase(person.getAge().value, keyword)
-                || StringUtil.containsSubstringIgnoreCase(person.getLastContactedDate().value, keyword)
-                || person.getTags().stream()
-                    .anyMatch(tag -> StringUtil.containsSubstringIgnoreCase(tag.tagName, keyword)));
+        checkArgument(!hasEmptyKeyword, "Keyword cannot be empty");
+        String[] searchKeys = person.getSearchKeys();
+        for (int i = 0; i < searchKeys.length; i++) {
+            if (matcher.test(searchKeys[i])) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
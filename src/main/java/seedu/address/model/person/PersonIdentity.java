@@ -0,0 +1,49 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+/**
+ * Hash key made up of the identity fields of a {@code Person}.
+ * Two keys are equal exactly when {@link Person#isSamePerson(Person)} holds for the persons they were built from.
+ */
+final class PersonIdentity {
+
+    private final Name name;
+    private final Phone phone;
+
+    private PersonIdentity(Name name, Phone phone) {
+        this.name = name;
+        this.phone = phone;
+    }
+
+    /**
+     * Returns the identity key of {@code person}.
+     */
+    static PersonIdentity of(Person person) {
+        requireNonNull(person);
+        return new PersonIdentity(person.getName(), person.getPhone());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonIdentity)) {
+            return false;
+        }
+
+        PersonIdentity otherIdentity = (PersonIdentity) other;
+        return name.equals(otherIdentity.name)
+                && phone.equals(otherIdentity.phone);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, phone);
+    }
+}
@@ -0,0 +1,127 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Checks a whole list of persons for identity uniqueness in a single hashed pass.
+ * Persons are considered to collide if {@link Person#isSamePerson(Person)} holds between them.
+ */
+public class PersonIdentityValidator {
+
+    /**
+     * Returns every pair of persons in {@code persons} that share the same identity, ordered by the position of the
+     * later person of each pair. Returns an empty list if all persons are unique.
+     */
+    public static List<IdentityCollision> findCollisions(List<Person> persons) {
+        requireAllNonNull(persons);
+
+        Map<PersonIdentity, List<Integer>> positionsByIdentity = new HashMap<>();
+        List<IdentityCollision> collisions = new ArrayList<>();
+        for (int i = 0; i < persons.size(); i++) {
+            List<Integer> earlierPositions = positionsByIdentity
+                    .computeIfAbsent(PersonIdentity.of(persons.get(i)), unused -> new ArrayList<>(1));
+            for (int earlierPosition : earlierPositions) {
+                collisions.add(new IdentityCollision(earlierPosition, persons.get(earlierPosition),
+                        i, persons.get(i)));
+            }
+            earlierPositions.add(i);
+        }
+        return collisions;
+    }
+
+    /**
+     * Returns true if no two persons in {@code persons} share the same identity.
+     * Stops at the first collision, without collecting the others.
+     */
+    public static boolean areUnique(List<Person> persons) {
+        requireAllNonNull(persons);
+
+        Set<PersonIdentity> identities = new HashSet<>();
+        for (Person person : persons) {
+            if (!identities.add(PersonIdentity.of(person))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A pair of persons with the same identity, together with their positions in the validated list.
+     */
+    public static class IdentityCollision {
+        private final int firstIndex;
+        private final Person first;
+        private final int secondIndex;
+        private final Person second;
+
+        /**
+         * Creates a collision between {@code first} at {@code firstIndex} and {@code second} at {@code secondIndex}.
+         */
+        public IdentityCollision(int firstIndex, Person first, int secondIndex, Person second) {
+            requireAllNonNull(first, second);
+            this.firstIndex = firstIndex;
+            this.first = first;
+            this.secondIndex = secondIndex;
+            this.second = second;
+        }
+
+        public int getFirstIndex() {
+            return firstIndex;
+        }
+
+        public Person getFirst() {
+            return first;
+        }
+
+        public int getSecondIndex() {
+            return secondIndex;
+        }
+
+        public Person getSecond() {
+            return second;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof IdentityCollision)) {
+                return false;
+            }
+
+            IdentityCollision otherCollision = (IdentityCollision) other;
+            return firstIndex == otherCollision.firstIndex
+                    && secondIndex == otherCollision.secondIndex
+                    && first.equals(otherCollision.first)
+                    && second.equals(otherCollision.second);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(firstIndex, first, secondIndex, second);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("firstIndex", firstIndex)
+                    .add("first", first.getName())
+                    .add("secondIndex", secondIndex)
+                    .add("second", second.getName())
+                    .toString();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * The search indexes of a list of persons, i.e. the postings of the trigram index and of the tag index, with each
+ * person referred to by its position in the list.
+ *
+ * Unlike the indexes kept by {@link UniquePersonList}, which follow every change to the list, these are immutable,
+ * so they can be built on a background thread, shared between copies of a list, and stored next to the data file.
+ * The fingerprint identifies the list they were built from, so stored indexes are only used for that exact list.
+ */
+public final class PersonIndexes {
+
+    private static final long FINGERPRINT_SEED = 0xCBF29CE484222325L;
+    private static final long FINGERPRINT_PRIME = 0x100000001B3L;
+
+    private final int personCount;
+    private final long fingerprint;
+    private final Map<String, int[]> trigramPostings;
+    private final Map<String, int[]> tagPostings;
+
+    /**
+     * Creates indexes of {@code personCount} persons with the given {@code fingerprint}.
+     * Each posting maps a trigram, or a tag name, to the positions of the persons that have it, in ascending order.
+     * The postings are not copied, and must not be changed afterwards.
+     */
+    public PersonIndexes(int personCount, long fingerprint, Map<String, int[]> trigramPostings,
+            Map<String, int[]> tagPostings) {
+        requireAllNonNull(trigramPostings, tagPostings);
+        this.personCount = personCount;
+        this.fingerprint = fingerprint;
+        this.trigramPostings = trigramPostings;
+        this.tagPostings = tagPostings;
+    }
+
+    /**
+     * Builds the indexes of {@code persons}.
+     */
+    public static PersonIndexes build(List<Person> persons) {
+        requireNonNull(persons);
+        Map<String, PostingBuilder> trigrams = new HashMap<>();
+        Map<String, PostingBuilder> tags = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            for (String trigram : TrigramIndex.trigramsOf(person)) {
+                trigrams.computeIfAbsent(trigram, unused -> new PostingBuilder()).add(i);
+            }
+            for (Tag tag : person.getTags()) {
+                tags.computeIfAbsent(tag.tagName, unused -> new PostingBuilder()).add(i);
+            }
+        }
+        return new PersonIndexes(persons.size(), fingerprintOf(persons), toPostings(trigrams), toPostings(tags));
+    }
+
+    /**
+     * Returns a hash of every field of every person in {@code persons}, in order.
+     * The order of the tags of a person does not matter, as it may differ between runs of the app.
+     */
+    public static long fingerprintOf(List<Person> persons) {
+        requireNonNull(persons);
+        long hash = FINGERPRINT_SEED;
+        for (Person person : persons) {
+            hash = hashString(hash, person.getName().fullName);
+            hash = hashString(hash, person.getPhone().value);
+            hash = hashString(hash, person.getEmail().value);
+            hash = hashString(hash, person.getAddress().value);
+            hash = hashString(hash, person.getOccupation().value);
+            hash = hashString(hash, person.getAge() == null ? "" : person.getAge().value);
+            hash = hashString(hash, person.getLastContactedDate().value);
+            hash = hashValue(hash, person.getPriority().value.ordinal());
+            hash = hashValue(hash, person.getIncomeBracket() == null ? -1 : person.getIncomeBracket().value.ordinal());
+            long tagsHash = 0;
+            for (Tag tag : person.getTags()) {
+                tagsHash += hashString(FINGERPRINT_SEED, tag.tagName);
+            }
+            hash = hashValue(hash, tagsHash);
+        }
+        return hash;
+    }
+
+    public int getPersonCount() {
+        return personCount;
+    }
+
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Returns the positions of the persons with each trigram. The returned map and arrays must not be modified.
+     */
+    public Map<String, int[]> getTrigramPostings() {
+        return trigramPostings;
+    }
+
+    /**
+     * Returns the positions of the persons with each tag name. The returned map and arrays must not be modified.
+     */
+    public Map<String, int[]> getTagPostings() {
+        return tagPostings;
+    }
+
+    private static long hashString(long hash, String value) {
+        long result = hash;
+        for (int i = 0; i < value.length(); i++) {
+            result = (result ^ value.charAt(i)) * FINGERPRINT_PRIME;
+        }
+        // separates the fields, so that moving characters from one field to the next changes the hash
+        return (result ^ 0xFFFF) * FINGERPRINT_PRIME;
+    }
+
+    private static long hashValue(long hash, long value) {
+        return (hash ^ value) * FINGERPRINT_PRIME;
+    }
+
+    private static Map<String, int[]> toPostings(Map<String, PostingBuilder> builders) {
+        Map<String, int[]> postings = new HashMap<>(builders.size() * 4 / 3 + 1);
+        builders.forEach((key, builder) -> postings.put(key, builder.toArray()));
+        return postings;
+    }
+
+    /**
+     * A growing list of positions, which are added in ascending order.
+     */
+    private static class PostingBuilder {
+        private int[] positions = new int[2];
+        private int size;
+
+        void add(int position) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size++] = position;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(positions, size);
+        }
+    }
+}
@@ -0,0 +1,502 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A query of the {@code find} command: a tree of clauses on the fields of a person, combined with AND, OR and NOT.
+ *
+ * A query is planned against the indexes of a {@link UniquePersonList} before it is run. The planner estimates the
+ * number of persons each clause of the query matches from the counts the list keeps, looks up the persons of the
+ * most selective clause that has an index, and tests the other clauses on those persons only, most selective first,
+ * so that a person is rejected as early as possible.
+ *
+ * Each query is compiled when it is built, from the compiled tests of its operands, into a flat predicate specialized
+ * for its clauses, so testing a person neither walks the tree nor allocates.
+ */
+public abstract class PersonQuery implements Predicate<Person> {
+
+    /**
+     * The text fields a keyword can be scoped to, in the order of their search keys in {@link Person}.
+     */
+    public enum TextField {
+        NAME, PHONE, EMAIL, ADDRESS, OCCUPATION
+    }
+
+    private final Predicate<Person> compiledTest;
+
+    private PersonQuery(Predicate<Person> compiledTest) {
+        this.compiledTest = compiledTest;
+    }
+
+    /**
+     * Returns the query matching persons whose searchable fields contain any of the keywords of {@code predicate}.
+     */
+    public static PersonQuery anyField(PersonContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return new AnyField(predicate);
+    }
+
+    /**
+     * Returns the query matching persons whose {@code field} contains {@code keyword}, ignoring case.
+     */
+    public static PersonQuery fieldContains(TextField field, String keyword) {
+        requireAllNonNull(field, keyword);
+        checkArgument(!keyword.trim().isEmpty(), "Keyword cannot be empty");
+        return new FieldContains(field, keyword.trim().toLowerCase());
+    }
+
+    /**
+     * Returns the query matching persons tagged with {@code tag}.
+     */
+    public static PersonQuery tag(Tag tag) {
+        requireNonNull(tag);
+        return new HasTag(tag);
+    }
+
+    /**
+     * Returns the query matching persons in the segment {@code filter}.
+     */
+    public static PersonQuery segment(SegmentFilter filter) {
+        requireNonNull(filter);
+        return new InSegment(filter);
+    }
+
+    /**
+     * Returns the query matching persons matched by every one of {@code operands}, of which there must be at least
+     * two.
+     */
+    public static PersonQuery and(List<PersonQuery> operands) {
+        requireAllNonNull(operands);
+        checkArgument(operands.size() >= 2, "AND needs at least two operands");
+        return new And(List.copyOf(operands));
+    }
+
+    /**
+     * Returns the query matching persons matched by any of {@code operands}, of which there must be at least two.
+     */
+    public static PersonQuery or(List<PersonQuery> operands) {
+        requireAllNonNull(operands);
+        checkArgument(operands.size() >= 2, "OR needs at least two operands");
+        return new Or(List.copyOf(operands));
+    }
+
+    /**
+     * Returns the query matching persons not matched by {@code operand}.
+     */
+    public static PersonQuery not(PersonQuery operand) {
+        requireNonNull(operand);
+        return new Not(operand);
+    }
+
+    @Override
+    public final boolean test(Person person) {
+        return compiledTest.test(person);
+    }
+
+    /**
+     * Returns an estimate of the number of persons in {@code persons} this query matches, from the counts kept by
+     * its indexes. The estimate never exceeds the number of persons, and takes much less time than testing them.
+     */
+    abstract int estimateMatches(UniquePersonList persons);
+
+    /**
+     * Returns the persons in {@code persons} that this query may match, looked up in an index, or
+     * {@code Optional.empty()} if no index can narrow this query down. Unless {@link #isLookUpExact()}, the persons
+     * returned must still be tested.
+     */
+    Optional<Set<Person>> lookUp(UniquePersonList persons) {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns true if the persons returned by {@link #lookUp(UniquePersonList)} are exactly those this query matches.
+     */
+    boolean isLookUpExact() {
+        return false;
+    }
+
+    /**
+     * Returns the clauses that must all match, which are the operands of an AND, or this query itself.
+     */
+    List<PersonQuery> getConjuncts() {
+        return List.of(this);
+    }
+
+    /**
+     * Returns a filter matching the same persons of {@code persons} as this query, which looks up the most selective
+     * clause with an index and tests the other clauses in increasing order of their estimated matches.
+     * The filter is only valid until {@code persons} is next changed.
+     */
+    Predicate<Person> plan(UniquePersonList persons) {
+        List<PersonQuery> clauses = new ArrayList<>(getConjuncts());
+        IdentityHashMap<PersonQuery, Integer> estimates = new IdentityHashMap<>();
+        for (PersonQuery clause : clauses) {
+            estimates.put(clause, clause.estimateMatches(persons));
+        }
+        clauses.sort(Comparator.comparing(estimates::get));
+
+        Set<Person> candidates = null;
+        for (PersonQuery clause : clauses) {
+            Optional<Set<Person>> lookedUp = clause.lookUp(persons);
+            if (lookedUp.isPresent()) {
+                candidates = lookedUp.get();
+                if (clause.isLookUpExact()) {
+                    clauses.remove(clause);
+                }
+                break;
+            }
+        }
+
+        Predicate<Person> tests = CompiledPredicates.allOf(compiledTestsOf(clauses));
+        if (candidates == null) {
+            return tests;
+        }
+        Set<Person> lookedUpPersons = candidates;
+        return person -> lookedUpPersons.contains(person) && tests.test(person);
+    }
+
+    private static List<Predicate<Person>> compiledTestsOf(List<PersonQuery> queries) {
+        List<Predicate<Person>> tests = new ArrayList<>(queries.size());
+        for (PersonQuery query : queries) {
+            tests.add(query.compiledTest);
+        }
+        return tests;
+    }
+
+    private static Set<Person> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Matches persons with any of a list of keywords in any searchable field, as plain {@code find} keywords do.
+     */
+    private static class AnyField extends PersonQuery {
+        private final PersonContainsKeywordsPredicate predicate;
+
+        AnyField(PersonContainsKeywordsPredicate predicate) {
+            // the predicate already tests each field with a matcher compiled for its keywords
+            super(predicate);
+            this.predicate = predicate;
+        }
+
+        @Override
+        int estimateMatches(UniquePersonList persons) {
+            return persons.estimateSearchCandidates(predicate.getKeywords()).orElse(persons.size());
+        }
+
+        @Override
+        Optional<Set<Person>> lookUp(UniquePersonList persons) {
+            return persons.getSearchCandidates(predicate.getKeywords());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof AnyField && predicate.equals(((AnyField) other).predicate));
+        }
+
+        @Override
+        public int hashCode() {
+            return predicate.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return predicate.toString();
+        }
+    }
+
+    /**
+     * Matches persons with a keyword in one text field.
+     */
+    private static class FieldContains extends PersonQuery {
+        private final TextField field;
+        private final String lowerCaseKeyword;
+
+        FieldContains(TextField field, String lowerCaseKeyword) {
+            super(compile(field, lowerCaseKeyword));
+            this.field = field;
+            this.lowerCaseKeyword = lowerCaseKeyword;
+        }
+
+        private static Predicate<Person> compile(TextField field, String lowerCaseKeyword) {
+            int searchKey = field.ordinal();
+            return person -> person.getSearchKeys()[searchKey].contains(lowerCaseKeyword);
+        }
+
+        @Override
+        int estimateMatches(UniquePersonList persons) {
+            return persons.estimateSearchCandidates(List.of(lowerCaseKeyword)).orElse(persons.size());
+        }
+
+        @Override
+        Optional<Set<Person>> lookUp(UniquePersonList persons) {
+            // the trigram index covers every searchable field, so its candidates are a superset of this field's
+            return persons.getSearchCandidates(List.of(lowerCaseKeyword));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof FieldContains)) {
+                return false;
+            }
+            FieldContains otherQuery = (FieldContains) other;
+            return field == otherQuery.field && lowerCaseKeyword.equals(otherQuery.lowerCaseKeyword);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * field.hashCode() + lowerCaseKeyword.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("field", field).add("keyword", lowerCaseKeyword).toString();
+        }
+    }
+
+    /**
+     * Matches persons with a tag, looked up in the tag index.
+     */
+    private static class HasTag extends PersonQuery {
+        private final Tag tag;
+
+        HasTag(Tag tag) {
+            super(person -> person.getTags().contains(tag));
+            this.tag = tag;
+        }
+
+        @Override
+        int estimateMatches(UniquePersonList persons) {
+            return persons.countPersonsWithTag(tag);
+        }
+
+        @Override
+        Optional<Set<Person>> lookUp(UniquePersonList persons) {
+            // copied, as the set kept by the list changes with it
+            Set<Person> taggedPersons = newIdentitySet();
+            taggedPersons.addAll(persons.getPersonsWithTag(tag));
+            return Optional.of(taggedPersons);
+        }
+
+        @Override
+        boolean isLookUpExact() {
+            return true;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof HasTag && tag.equals(((HasTag) other).tag));
+        }
+
+        @Override
+        public int hashCode() {
+            return tag.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("tag", tag).toString();
+        }
+    }
+
+    /**
+     * Matches persons in a segment, counted and looked up in the segment bitmaps.
+     */
+    private static class InSegment extends PersonQuery {
+        private final SegmentFilter filter;
+
+        InSegment(SegmentFilter filter) {
+            // the filter compiles its own test when it is built
+            super(filter);
+            this.filter = filter;
+        }
+
+        @Override
+        int estimateMatches(UniquePersonList persons) {
+            return persons.countPersonsInSegment(filter);
+        }
+
+        @Override
+        Optional<Set<Person>> lookUp(UniquePersonList persons) {
+            return Optional.of(persons.getPersonsInSegment(filter));
+        }
+
+        @Override
+        boolean isLookUpExact() {
+            return true;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof InSegment && filter.equals(((InSegment) other).filter));
+        }
+
+        @Override
+        public int hashCode() {
+            return filter.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("segment", filter).toString();
+        }
+    }
+
+    /**
+     * Matches persons matched by every operand.
+     */
+    private static class And extends PersonQuery {
+        private final List<PersonQuery> operands;
+
+        And(List<PersonQuery> operands) {
+            super(CompiledPredicates.allOf(compiledTestsOf(operands)));
+            this.operands = operands;
+        }
+
+        @Override
+        int estimateMatches(UniquePersonList persons) {
+            int estimate = persons.size();
+            for (PersonQuery operand : operands) {
+                estimate = Math.min(estimate, operand.estimateMatches(persons));
+            }
+            return estimate;
+        }
+
+        @Override
+        List<PersonQuery> getConjuncts() {
+            return operands;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof And && operands.equals(((And) other).operands));
+        }
+
+        @Override
+        public int hashCode() {
+            return operands.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("and", operands).toString();
+        }
+    }
+
+    /**
+     * Matches persons matched by any operand. It can be looked up if every operand can.
+     */
+    private static class Or extends PersonQuery {
+        private final List<PersonQuery> operands;
+
+        Or(List<PersonQuery> operands) {
+            super(CompiledPredicates.anyOf(compiledTestsOf(operands)));
+            this.operands = operands;
+        }
+
+        @Override
+        int estimateMatches(UniquePersonList persons) {
+            long estimate = 0;
+            for (PersonQuery operand : operands) {
+                estimate += operand.estimateMatches(persons);
+            }
+            return (int) Math.min(estimate, persons.size());
+        }
+
+        @Override
+        Optional<Set<Person>> lookUp(UniquePersonList persons) {
+            Set<Person> union = newIdentitySet();
+            for (PersonQuery operand : operands) {
+                Optional<Set<Person>> lookedUp = operand.lookUp(persons);
+                if (lookedUp.isEmpty()) {
+                    return Optional.empty();
+                }
+                union.addAll(lookedUp.get());
+            }
+            return Optional.of(union);
+        }
+
+        @Override
+        boolean isLookUpExact() {
+            return operands.stream().allMatch(PersonQuery::isLookUpExact);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof Or && operands.equals(((Or) other).operands));
+        }
+
+        @Override
+        public int hashCode() {
+            return operands.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("or", operands).toString();
+        }
+    }
+
+    /**
+     * Matches persons not matched by the operand. It has no index, as it usually matches most persons.
+     */
+    private static class Not extends PersonQuery {
+        private final PersonQuery operand;
+
+        Not(PersonQuery operand) {
+            super(compile(operand));
+            this.operand = operand;
+        }
+
+        private static Predicate<Person> compile(PersonQuery operand) {
+            Predicate<Person> operandTest = operand.compiledTest;
+            return person -> !operandTest.test(person);
+        }
+
+        @Override
+        int estimateMatches(UniquePersonList persons) {
+            // an estimate of the operand that is too high would make this one too low, so only exact ones are used
+            return operand.isLookUpExact()
+                    ? Math.max(0, persons.size() - operand.estimateMatches(persons))
+                    : persons.size();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof Not && operand.equals(((Not) other).operand));
+        }
+
+        @Override
+        public int hashCode() {
+            return ~operand.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("not", operand).toString();
+        }
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Arrays;
+
 /**
  * Represents a Person's priority level in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPriority(String)}
@@ -19,6 +21,10 @@ public class Priority {
         NONE, LOW, MEDIUM, HIGH
     }
 
+    private static final Priority[] INSTANCES = Arrays.stream(Level.values())
+            .map(Priority::new)
+            .toArray(Priority[]::new);
+
     public final Level value;
 
     /**
@@ -42,6 +48,25 @@ public class Priority {
         value = priority;
     }
 
+    /**
+     * Returns the shared {@code Priority} of the given level.
+     */
+    public static Priority of(Level priority) {
+        requireNonNull(priority);
+        return INSTANCES[priority.ordinal()];
+    }
+
+    /**
+     * Returns the shared {@code Priority} of the level named by {@code priority}, ignoring case.
+     *
+     * @param priority A valid priority level.
+     */
+    public static Priority of(String priority) {
+        requireNonNull(priority);
+        checkArgument(isValidPriority(priority), MESSAGE_CONSTRAINTS);
+        return of(Level.valueOf(priority.toUpperCase()));
+    }
+
     /**
      * Returns true if a given string is a valid priority.
      */
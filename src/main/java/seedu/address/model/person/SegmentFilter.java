@@ -0,0 +1,266 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that a {@code Person} is in a campaign segment, described by its priority, income bracket, age, tags and Do
+ * Not Call status, combined with AND, OR and NOT.
+ *
+ * A segment is evaluated against the bitmaps of a {@link UniquePersonList} with one bitmap operation per clause, so
+ * its cost grows with the number of clauses rather than with the number of persons tested. Testing a single person
+ * gives the same answer, and is meant for persons outside a list. The test is compiled when the segment is built
+ * into a flat predicate, so testing does not walk the clauses or allocate.
+ */
+public class SegmentFilter implements Predicate<Person> {
+
+    private enum Kind {
+        PRIORITY, INCOME_BRACKET, AGE, TAG, DNC, AND, OR, NOT
+    }
+
+    private final Kind kind;
+    // The value tested by a clause: a Priority.Level, IncomeBracket.Level, AgeRange or Tag; null otherwise
+    private final Object value;
+    private final List<SegmentFilter> operands;
+    private final Predicate<Person> compiledTest;
+
+    private SegmentFilter(Kind kind, Object value, List<SegmentFilter> operands) {
+        this.kind = kind;
+        this.value = value;
+        this.operands = operands;
+        this.compiledTest = compile(kind, value, operands);
+    }
+
+    /**
+     * Returns the segment of persons with the priority {@code level}.
+     */
+    public static SegmentFilter priority(Priority.Level level) {
+        requireNonNull(level);
+        return new SegmentFilter(Kind.PRIORITY, level, List.of());
+    }
+
+    /**
+     * Returns the segment of persons in the income bracket {@code level}.
+     * Persons without an income bracket are in the segment of {@link IncomeBracket.Level#NONE}.
+     */
+    public static SegmentFilter incomeBracket(IncomeBracket.Level level) {
+        requireNonNull(level);
+        return new SegmentFilter(Kind.INCOME_BRACKET, level, List.of());
+    }
+
+    /**
+     * Returns the segment of persons aged within {@code range}.
+     */
+    public static SegmentFilter age(AgeRange range) {
+        requireNonNull(range);
+        return new SegmentFilter(Kind.AGE, range, List.of());
+    }
+
+    /**
+     * Returns the segment of persons tagged with {@code tag}.
+     */
+    public static SegmentFilter tag(Tag tag) {
+        requireNonNull(tag);
+        return new SegmentFilter(Kind.TAG, tag, List.of());
+    }
+
+    /**
+     * Returns the segment of persons marked as Do Not Call.
+     */
+    public static SegmentFilter dnc() {
+        return new SegmentFilter(Kind.DNC, null, List.of());
+    }
+
+    /**
+     * Returns the segment of persons in every one of {@code operands}, of which there must be at least two.
+     */
+    public static SegmentFilter and(List<SegmentFilter> operands) {
+        requireAllNonNull(operands);
+        checkArgument(operands.size() >= 2, "AND needs at least two operands");
+        return new SegmentFilter(Kind.AND, null, List.copyOf(operands));
+    }
+
+    /**
+     * Returns the segment of persons in any of {@code operands}, of which there must be at least two.
+     */
+    public static SegmentFilter or(List<SegmentFilter> operands) {
+        requireAllNonNull(operands);
+        checkArgument(operands.size() >= 2, "OR needs at least two operands");
+        return new SegmentFilter(Kind.OR, null, List.copyOf(operands));
+    }
+
+    /**
+     * Returns the segment of persons not in {@code operand}.
+     */
+    public static SegmentFilter not(SegmentFilter operand) {
+        requireNonNull(operand);
+        return new SegmentFilter(Kind.NOT, null, List.of(operand));
+    }
+
+    /**
+     * Returns the slots of the persons in {@code index} that are in this segment.
+     */
+    BitSet evaluate(SegmentIndex index) {
+        switch (kind) {
+        case PRIORITY:
+            return index.withPriority((Priority.Level) value);
+        case INCOME_BRACKET:
+            return index.withIncomeBracket((IncomeBracket.Level) value);
+        case AGE:
+            return index.agedWithin((AgeRange) value);
+        case TAG:
+            return index.withTag((Tag) value);
+        case DNC:
+            return index.dncTagged();
+        case AND:
+            return evaluateAnd(index);
+        case OR:
+            BitSet union = operands.get(0).evaluate(index);
+            for (int i = 1; i < operands.size(); i++) {
+                union.or(operands.get(i).evaluate(index));
+            }
+            return union;
+        case NOT:
+            BitSet complement = index.all();
+            complement.andNot(operands.get(0).evaluate(index));
+            return complement;
+        default:
+            throw new AssertionError(kind);
+        }
+    }
+
+    /**
+     * Intersects the operands, taking away the negated ones directly rather than first complementing them.
+     */
+    private BitSet evaluateAnd(SegmentIndex index) {
+        BitSet intersection = null;
+        for (SegmentFilter operand : operands) {
+            if (operand.kind != Kind.NOT) {
+                BitSet bits = operand.evaluate(index);
+                if (intersection == null) {
+                    intersection = bits;
+                } else {
+                    intersection.and(bits);
+                }
+            }
+        }
+        if (intersection == null) {
+            intersection = index.all();
+        }
+        for (SegmentFilter operand : operands) {
+            if (intersection.isEmpty()) {
+                break;
+            }
+            if (operand.kind == Kind.NOT) {
+                intersection.andNot(operand.operands.get(0).evaluate(index));
+            }
+        }
+        return intersection;
+    }
+
+    /**
+     * Returns the test of a segment, specialized for its kind, that calls the compiled tests of its operands directly.
+     */
+    private static Predicate<Person> compile(Kind kind, Object value, List<SegmentFilter> operands) {
+        switch (kind) {
+        case PRIORITY:
+            Priority.Level priority = (Priority.Level) value;
+            return person -> person.getPriority().value == priority;
+        case INCOME_BRACKET:
+            IncomeBracket.Level incomeBracketLevel = (IncomeBracket.Level) value;
+            return person -> {
+                IncomeBracket incomeBracket = person.getIncomeBracket();
+                return (incomeBracket == null ? IncomeBracket.Level.NONE : incomeBracket.value) == incomeBracketLevel;
+            };
+        case AGE:
+            return (AgeRange) value;
+        case TAG:
+            Tag tag = (Tag) value;
+            return person -> person.getTags().contains(tag);
+        case DNC:
+            return Person::isDncTagged;
+        case AND:
+            return CompiledPredicates.allOf(compiledTestsOf(operands));
+        case OR:
+            return CompiledPredicates.anyOf(compiledTestsOf(operands));
+        case NOT:
+            Predicate<Person> operandTest = operands.get(0).compiledTest;
+            return person -> !operandTest.test(person);
+        default:
+            throw new AssertionError(kind);
+        }
+    }
+
+    private static List<Predicate<Person>> compiledTestsOf(List<SegmentFilter> filters) {
+        List<Predicate<Person>> tests = new ArrayList<>(filters.size());
+        for (SegmentFilter filter : filters) {
+            tests.add(filter.compiledTest);
+        }
+        return tests;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return compiledTest.test(person);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SegmentFilter)) {
+            return false;
+        }
+
+        SegmentFilter otherFilter = (SegmentFilter) other;
+        return kind == otherFilter.kind
+                && Objects.equals(value, otherFilter.value)
+                && operands.equals(otherFilter.operands);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, value, operands);
+    }
+
+    /**
+     * Returns the segment in the syntax of the {@code filter} command, e.g. "(pr/HIGH and not dnc)".
+     */
+    @Override
+    public String toString() {
+        switch (kind) {
+        case PRIORITY:
+            return "pr/" + value;
+        case INCOME_BRACKET:
+            return "i/" + ((IncomeBracket.Level) value).name();
+        case AGE:
+            AgeRange range = (AgeRange) value;
+            return "age/" + range.getMinYears() + "-" + range.getMaxYears();
+        case TAG:
+            return "t/" + ((Tag) value).tagName;
+        case DNC:
+            return "dnc";
+        case AND:
+        case OR:
+            String separator = kind == Kind.AND ? " and " : " or ";
+            return operands.stream().map(SegmentFilter::toString).collect(Collectors.joining(separator, "(", ")"));
+        case NOT:
+            return "not " + operands.get(0);
+        default:
+            throw new AssertionError(kind);
+        }
+    }
+}
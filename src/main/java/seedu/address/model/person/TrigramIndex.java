@@ -0,0 +1,253 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+
+/**
+ * An inverted index from every three-character substring (trigram) of a person's searchable fields to the persons
+ * whose fields contain it. All text is lower-cased before indexing, so lookups are case-insensitive.
+ *
+ * A person can only contain a keyword if it contains every trigram of that keyword, so the index narrows a substring
+ * search down to a set of candidates, which must still be checked exactly.
+ */
+class TrigramIndex {
+
+    static final int GRAM_LENGTH = 3;
+
+    /** Live persons in the index, keyed by reference, mapped to the slot their postings refer to. */
+    private final Map<Person, Integer> slots = new IdentityHashMap<>();
+    private final List<Person> personsBySlot = new ArrayList<>();
+    private final Map<String, Posting> postings = new HashMap<>();
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        int slot = personsBySlot.size();
+        personsBySlot.add(person);
+        slots.put(person, slot);
+        for (String trigram : trigramsOf(person)) {
+            postings.computeIfAbsent(trigram, unused -> new Posting()).add(slot);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index. Does nothing if the person is not indexed.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        Integer slot = slots.remove(person);
+        if (slot == null) {
+            return;
+        }
+
+        personsBySlot.set(slot, null);
+        for (String trigram : trigramsOf(person)) {
+            Posting posting = postings.get(trigram);
+            posting.remove(slot);
+            if (posting.isEmpty()) {
+                postings.remove(trigram);
+            }
+        }
+        compactIfSparse();
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    void clear() {
+        slots.clear();
+        personsBySlot.clear();
+        postings.clear();
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}, using {@code trigramPostings} from
+     * {@link PersonIndexes} instead of working out the trigrams of every person. Each person takes its position in
+     * {@code persons} as its slot.
+     */
+    void load(List<Person> persons, Map<String, int[]> trigramPostings) {
+        requireNonNull(persons);
+        requireNonNull(trigramPostings);
+        clear();
+        personsBySlot.addAll(persons);
+        for (int i = 0; i < persons.size(); i++) {
+            slots.put(persons.get(i), i);
+        }
+        // the postings are copied, as those of PersonIndexes are shared and must not change
+        trigramPostings.forEach((trigram, positions) -> postings.put(trigram, new Posting(positions)));
+    }
+
+    /**
+     * Returns the persons whose searchable fields may contain any of {@code keywords}, ignoring case, or
+     * {@code Optional.empty()} if some keyword is too short for the index to narrow down the search.
+     */
+    Optional<Set<Person>> getCandidates(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            String preppedKeyword = keyword.trim().toLowerCase();
+            if (preppedKeyword.length() < GRAM_LENGTH) {
+                return Optional.empty();
+            }
+            for (int slot : getCandidateSlots(preppedKeyword)) {
+                candidates.add(personsBySlot.get(slot));
+            }
+        }
+        return Optional.of(candidates);
+    }
+
+    /**
+     * Returns an upper bound on the number of persons whose searchable fields contain any of {@code keywords}, from
+     * the size of the rarest trigram of each keyword, or {@code OptionalInt.empty()} if some keyword is too short for
+     * the index to tell. Takes time proportional to the length of the keywords only.
+     */
+    OptionalInt estimateCandidates(Collection<String> keywords) {
+        requireNonNull(keywords);
+        long estimate = 0;
+        for (String keyword : keywords) {
+            String preppedKeyword = keyword.trim().toLowerCase();
+            if (preppedKeyword.length() < GRAM_LENGTH) {
+                return OptionalInt.empty();
+            }
+            int rarest = Integer.MAX_VALUE;
+            for (String trigram : trigramsOf(preppedKeyword)) {
+                Posting posting = postings.get(trigram);
+                rarest = Math.min(rarest, posting == null ? 0 : posting.size);
+            }
+            estimate += rarest;
+        }
+        return OptionalInt.of((int) Math.min(estimate, slots.size()));
+    }
+
+    /**
+     * Returns the slots of the persons containing every trigram of {@code keyword}, in ascending order.
+     */
+    private int[] getCandidateSlots(String keyword) {
+        List<Posting> keywordPostings = new ArrayList<>();
+        for (String trigram : trigramsOf(keyword)) {
+            Posting posting = postings.get(trigram);
+            if (posting == null) {
+                return new int[0];
+            }
+            keywordPostings.add(posting);
+        }
+        keywordPostings.sort((first, second) -> Integer.compare(first.size, second.size));
+
+        Posting smallest = keywordPostings.get(0);
+        int[] result = new int[smallest.size];
+        int resultSize = 0;
+        for (int i = 0; i < smallest.size; i++) {
+            if (isInAll(keywordPostings, smallest.slots[i])) {
+                result[resultSize++] = smallest.slots[i];
+            }
+        }
+        return Arrays.copyOf(result, resultSize);
+    }
+
+    private static boolean isInAll(List<Posting> postings, int slot) {
+        for (Posting posting : postings) {
+            if (!posting.contains(slot)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Re-indexes the live persons once most slots belong to removed persons, so that repeated edits do not grow the
+     * slot table without bound.
+     */
+    private void compactIfSparse() {
+        if (personsBySlot.size() < 64 || personsBySlot.size() < 2 * slots.size()) {
+            return;
+        }
+        List<Person> livePersons = new ArrayList<>(slots.size());
+        for (Person person : personsBySlot) {
+            if (person != null) {
+                livePersons.add(person);
+            }
+        }
+        clear();
+        livePersons.forEach(this::add);
+    }
+
+    /**
+     * Returns the distinct trigrams of the searchable fields of {@code person}, lower-cased.
+     */
+    static Set<String> trigramsOf(Person person) {
+        Set<String> trigrams = new HashSet<>();
+        for (String searchKey : person.getSearchKeys()) {
+            addTrigrams(trigrams, searchKey);
+        }
+        return trigrams;
+    }
+
+    private static Set<String> trigramsOf(String keyword) {
+        Set<String> trigrams = new HashSet<>();
+        addTrigrams(trigrams, keyword);
+        return trigrams;
+    }
+
+    private static void addTrigrams(Set<String> trigrams, String text) {
+        String lowerCaseText = text.toLowerCase();
+        for (int i = 0; i + GRAM_LENGTH <= lowerCaseText.length(); i++) {
+            trigrams.add(lowerCaseText.substring(i, i + GRAM_LENGTH));
+        }
+    }
+
+    /**
+     * A sorted list of slots. Slots are handed out in increasing order, so appending keeps the list sorted.
+     */
+    private static class Posting {
+        private int[] slots;
+        private int size;
+
+        Posting() {
+            slots = new int[2];
+        }
+
+        Posting(int[] sortedSlots) {
+            slots = sortedSlots.length == 0 ? new int[2] : Arrays.copyOf(sortedSlots, sortedSlots.length);
+            size = sortedSlots.length;
+        }
+
+        void add(int slot) {
+            assert size == 0 || slots[size - 1] < slot : "Slots must be added in increasing order";
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        void remove(int slot) {
+            int index = Arrays.binarySearch(slots, 0, size, slot);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(slots, index + 1, slots, index, size - index - 1);
+            size--;
+        }
+
+        boolean contains(int slot) {
+            return Arrays.binarySearch(slots, 0, size, slot) >= 0;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+    }
+}
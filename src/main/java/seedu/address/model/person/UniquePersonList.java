@@ -1,15 +1,31 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagDictionary;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -19,6 +35,21 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * as to ensure that the person with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * Hash indexes on the identity fields, phone, name and non-empty email are kept in step with the list, so that
+ * duplicate checks take constant time instead of a scan over every person. The identity index also records the
+ * position of each person, so that a person already held by the caller is located without a scan. A removal only
+ * marks the positions after it as stale, and they are fixed up when one of them is next needed. A sorted index on
+ * the epoch day of the last contacted date answers date range queries without parsing or testing every date, and an
+ * index with a bucket for every possible age does the same for age ranges. A {@link SegmentIndex} keeps bitmaps over
+ * the persons for the fields that campaign segments are made of, so that a {@link SegmentFilter} is evaluated without
+ * testing every person.
+ * A trigram index over
+ * the searchable fields narrows substring searches down to the persons that may match, and a tag index maps every tag
+ * to the persons carrying it.
+ *
+ * The trigram and tag indexes are the costly ones to build, so when the whole list is replaced they are only filled
+ * in when first needed, from {@link PersonIndexes} that were given with the new persons or built in the background,
+ * or else built there and then. Changes made before that are not applied to them one by one.
  *
  * @see Person#isSamePerson(Person)
  */
@@ -28,12 +59,163 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    private final Map<PersonIdentity, IdentityEntry> identityIndex = new HashMap<>();
+    // The entry of each person in identityIndex, in the order of internalList
+    private final List<IdentityEntry> identityEntries = new ArrayList<>();
+    // The position from which the positions recorded in identityEntries may be out of date
+    private int stalePositionsFrom = Integer.MAX_VALUE;
+    private final Map<Name, Integer> nameCounts = new HashMap<>();
+    private final Map<Phone, Integer> phoneCounts = new HashMap<>();
+    private final Map<Email, Integer> emailCounts = new HashMap<>();
+    private final TreeMap<Integer, Set<Person>> personsByContactDay = new TreeMap<>();
+    // The persons of each age, at the position of their age in years; null for ages no person has had
+    private final List<Set<Person>> personsByAge = new ArrayList<>(Collections.nCopies(Age.MAX_AGE + 1, null));
+    private final SegmentIndex segmentIndex = new SegmentIndex();
+    private final TrigramIndex trigramIndex = new TrigramIndex();
+    private final Map<Tag, Set<Person>> personsByTag = new HashMap<>();
+    // Whether trigramIndex and personsByTag hold every person in the list
+    private boolean areSearchIndexesLoaded = true;
+    // The indexes of the list as it was last replaced as a whole, until it next changes; null if there are none
+    private CompletableFuture<PersonIndexes> listIndexes;
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsKey(PersonIdentity.of(toCheck));
+    }
+
+    /**
+     * Returns true if the list contains a person with the same phone number as the given argument.
+     */
+    public boolean containsSamePhone(Person toCheck) {
+        requireNonNull(toCheck);
+        return phoneCounts.containsKey(toCheck.getPhone());
+    }
+
+    /**
+     * Returns the number of persons in the list with the given {@code name}.
+     */
+    public int countPersonsWithName(Name name) {
+        requireNonNull(name);
+        return nameCounts.getOrDefault(name, 0);
+    }
+
+    /**
+     * Returns the number of persons in the list with the given {@code phone}.
+     */
+    public int countPersonsWithPhone(Phone phone) {
+        requireNonNull(phone);
+        return phoneCounts.getOrDefault(phone, 0);
+    }
+
+    /**
+     * Returns the persons in the list whose searchable fields may contain any of {@code keywords}, ignoring case.
+     * Every person that does contain a keyword is returned, but the candidates must still be checked exactly.
+     * Returns {@code Optional.empty()} if some keyword is too short to narrow down the search.
+     */
+    public Optional<Set<Person>> getSearchCandidates(Collection<String> keywords) {
+        requireNonNull(keywords);
+        loadSearchIndexes();
+        return trigramIndex.getCandidates(keywords);
+    }
+
+    /**
+     * Returns the persons in the list tagged with {@code tag}, in time proportional to their number.
+     * The returned set is an unmodifiable view, which is only valid until the list is next changed.
+     */
+    public Set<Person> getPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        loadSearchIndexes();
+        Set<Person> persons = personsByTag.get(tag);
+        return persons == null ? Collections.emptySet() : Collections.unmodifiableSet(persons);
+    }
+
+    /**
+     * Returns the persons in the list last contacted within {@code range}, in time proportional to the logarithm of
+     * the number of distinct dates plus the number of persons returned.
+     * The returned set is a new set, which compares persons by identity.
+     */
+    public Set<Person> getPersonsLastContactedWithin(LastContactedDateRange range) {
+        requireNonNull(range);
+        Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (range.getFromEpochDay() > range.getToEpochDay()) {
+            return persons;
+        }
+        for (Set<Person> personsOnDay
+                : personsByContactDay.subMap(range.getFromEpochDay(), true, range.getToEpochDay(), true).values()) {
+            persons.addAll(personsOnDay);
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the persons in the list whose age is within {@code range}, in time proportional to the number of ages in
+     * the range plus the number of persons returned.
+     * The returned set is a new set, which compares persons by identity.
+     */
+    public Set<Person> getPersonsAgedWithin(AgeRange range) {
+        requireNonNull(range);
+        Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int years = range.getMinYears(); years <= range.getMaxYears(); years++) {
+            Set<Person> personsOfAge = personsByAge.get(years);
+            if (personsOfAge != null) {
+                persons.addAll(personsOfAge);
+            }
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the persons in the list that are in the segment {@code filter}, evaluated with bitmap operations over
+     * the persons instead of testing each of them.
+     * The returned set is a new set, which compares persons by identity.
+     */
+    public Set<Person> getPersonsInSegment(SegmentFilter filter) {
+        requireNonNull(filter);
+        return segmentIndex.personsIn(filter.evaluate(segmentIndex));
+    }
+
+    /**
+     * Returns a filter matching the persons in the list that {@code query} matches, planned with the indexes of the
+     * list as described in {@link PersonQuery}. The filter is only valid until the list is next changed.
+     */
+    public Predicate<Person> planQuery(PersonQuery query) {
+        requireNonNull(query);
+        return query.plan(this);
+    }
+
+    /**
+     * Returns the number of persons in the list.
+     */
+    int size() {
+        return internalList.size();
+    }
+
+    /**
+     * Returns an upper bound on the number of persons whose searchable fields contain any of {@code keywords}, or
+     * {@code OptionalInt.empty()} if some keyword is too short for the trigram index to tell.
+     */
+    OptionalInt estimateSearchCandidates(Collection<String> keywords) {
+        loadSearchIndexes();
+        return trigramIndex.estimateCandidates(keywords);
+    }
+
+    /**
+     * Returns the number of persons in the list tagged with {@code tag}.
+     */
+    int countPersonsWithTag(Tag tag) {
+        loadSearchIndexes();
+        Set<Person> persons = personsByTag.get(tag);
+        return persons == null ? 0 : persons.size();
+    }
+
+    /**
+     * Returns the number of persons in the list that are in the segment {@code filter}.
+     */
+    int countPersonsInSegment(SegmentFilter filter) {
+        return filter.evaluate(segmentIndex).cardinality();
     }
 
     /**
@@ -45,7 +227,9 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        listIndexes = null;
         internalList.add(toAdd);
+        addToIndexes(toAdd, internalList.size() - 1);
     }
 
     /**
@@ -56,7 +240,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = positionOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,7 +249,10 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        listIndexes = null;
+        Person replaced = internalList.set(index, editedPerson);
+        removeFromIndexes(replaced);
+        addToIndexes(editedPerson, index);
     }
 
     /**
@@ -74,14 +261,25 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = positionOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        listIndexes = null;
+        removeFromIndexes(internalList.remove(index));
+        identityEntries.remove(index);
+        stalePositionsFrom = Math.min(stalePositionsFrom, index);
     }
 
+    /**
+     * Replaces the contents of this list with those of {@code replacement}.
+     * The indexes {@code replacement} was given or has built for its persons are shared, not built again.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildFieldIndexes();
+        unloadSearchIndexes(replacement.listIndexes);
     }
 
     /**
@@ -90,11 +288,58 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        if (!PersonIdentityValidator.areUnique(persons)) {
             throw new DuplicatePersonException();
         }
 
         internalList.setAll(persons);
+        rebuildFieldIndexes();
+        unloadSearchIndexes(null);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code persons}, whose trigram and tag indexes are {@code indexes}.
+     * {@code persons} must not contain duplicate persons, and {@code indexes} must have been built from a list
+     * equal to {@code persons}.
+     */
+    public void setPersons(List<Person> persons, PersonIndexes indexes) {
+        requireNonNull(indexes);
+        checkArgument(indexes.getPersonCount() == persons.size(), "Indexes do not belong to these persons");
+        setPersons(persons);
+        listIndexes = CompletableFuture.completedFuture(indexes);
+    }
+
+    /**
+     * Gives the persons in the list the trigram and tag indexes {@code indexes}, to be loaded when first needed.
+     * {@code indexes} must have been built from a list equal to this one.
+     */
+    public void setIndexes(PersonIndexes indexes) {
+        requireNonNull(indexes);
+        checkArgument(indexes.getPersonCount() == internalList.size(), "Indexes do not belong to these persons");
+        unloadSearchIndexes(CompletableFuture.completedFuture(indexes));
+    }
+
+    /**
+     * Starts building the trigram and tag indexes of the persons on a background thread, if they are not built
+     * yet, so that they are ready by the time they are first needed.
+     */
+    public void buildIndexesInBackground() {
+        if (areSearchIndexesLoaded || listIndexes != null) {
+            return;
+        }
+        List<Person> persons = List.copyOf(internalList);
+        listIndexes = CompletableFuture.supplyAsync(() -> PersonIndexes.build(persons));
+    }
+
+    /**
+     * Returns the trigram and tag indexes of the persons, if they are already built and the list has not changed
+     * since it was last replaced as a whole.
+     */
+    public Optional<PersonIndexes> getIndexes() {
+        if (listIndexes == null || !listIndexes.isDone() || listIndexes.isCompletedExceptionally()) {
+            return Optional.empty();
+        }
+        return Optional.of(listIndexes.join());
     }
 
     /**
@@ -143,20 +388,163 @@ public class UniquePersonList implements Iterable<Person> {
         if (toCheck.getEmail().value.isEmpty()) {
             return false;
         }
-        return internalList.stream().anyMatch(toCheck::hasSameEmail);
+        return emailCounts.containsKey(toCheck.getEmail());
+    }
+
+    /**
+     * Returns the position of the person equal to {@code person} in the backing list, or -1 if there is none.
+     */
+    private int positionOf(Person person) {
+        IdentityEntry entry = identityIndex.get(PersonIdentity.of(person));
+        if (entry == null || !entry.person.equals(person)) {
+            return -1;
+        }
+        if (entry.position >= stalePositionsFrom) {
+            for (int i = stalePositionsFrom; i < identityEntries.size(); i++) {
+                identityEntries.get(i).position = i;
+            }
+            stalePositionsFrom = Integer.MAX_VALUE;
+        }
+        return entry.position;
+    }
+
+    private void addToIndexes(Person person, int position) {
+        addToFieldIndexes(person, position);
+        if (!areSearchIndexesLoaded) {
+            return;
+        }
+        trigramIndex.add(person);
+        for (Tag tag : person.getTags()) {
+            personsByTag.computeIfAbsent(tag, unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(person);
+        }
+    }
+
+    private void removeFromIndexes(Person person) {
+        identityIndex.remove(PersonIdentity.of(person));
+        decrementCount(nameCounts, person.getName());
+        decrementCount(phoneCounts, person.getPhone());
+        if (!person.getEmail().value.isEmpty()) {
+            decrementCount(emailCounts, person.getEmail());
+        }
+        Integer contactDay = person.getLastContactedDate().epochDay;
+        Set<Person> personsOnDay = personsByContactDay.get(contactDay);
+        personsOnDay.remove(person);
+        if (personsOnDay.isEmpty()) {
+            personsByContactDay.remove(contactDay);
+        }
+        personsByAge.get(yearsOf(person)).remove(person);
+        segmentIndex.remove(person);
+        if (!areSearchIndexesLoaded) {
+            return;
+        }
+        trigramIndex.remove(person);
+        for (Tag tag : person.getTags()) {
+            Set<Person> persons = personsByTag.get(tag);
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                personsByTag.remove(tag);
+            }
+        }
+    }
+
+    private void addToFieldIndexes(Person person, int position) {
+        IdentityEntry entry = new IdentityEntry(person, position);
+        identityIndex.put(PersonIdentity.of(person), entry);
+        if (position == identityEntries.size()) {
+            identityEntries.add(entry);
+        } else {
+            identityEntries.set(position, entry);
+        }
+        nameCounts.merge(person.getName(), 1, Integer::sum);
+        phoneCounts.merge(person.getPhone(), 1, Integer::sum);
+        if (!person.getEmail().value.isEmpty()) {
+            emailCounts.merge(person.getEmail(), 1, Integer::sum);
+        }
+        personsByContactDay.computeIfAbsent(person.getLastContactedDate().epochDay, unused ->
+                Collections.newSetFromMap(new IdentityHashMap<>())).add(person);
+        int years = yearsOf(person);
+        if (personsByAge.get(years) == null) {
+            personsByAge.set(years, Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
+        personsByAge.get(years).add(person);
+        segmentIndex.add(person);
+    }
+
+    private void rebuildFieldIndexes() {
+        identityIndex.clear();
+        identityEntries.clear();
+        stalePositionsFrom = Integer.MAX_VALUE;
+        nameCounts.clear();
+        phoneCounts.clear();
+        emailCounts.clear();
+        personsByContactDay.clear();
+        Collections.fill(personsByAge, null);
+        segmentIndex.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            addToFieldIndexes(internalList.get(i), i);
+        }
+    }
+
+    /**
+     * Empties the trigram and tag indexes, to be filled in from {@code indexes}, if not null, when first needed.
+     */
+    private void unloadSearchIndexes(CompletableFuture<PersonIndexes> indexes) {
+        trigramIndex.clear();
+        personsByTag.clear();
+        areSearchIndexesLoaded = internalList.isEmpty();
+        listIndexes = indexes;
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Fills in the trigram and tag indexes if they were left empty when the whole list was replaced.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private void loadSearchIndexes() {
+        if (areSearchIndexesLoaded) {
+            return;
+        }
+
+        PersonIndexes indexes = null;
+        if (listIndexes != null) {
+            try {
+                indexes = listIndexes.join();
+            } catch (CompletionException ce) {
+                // built again below
+            }
+        }
+        if (indexes == null) {
+            indexes = PersonIndexes.build(internalList);
+            listIndexes = CompletableFuture.completedFuture(indexes);
+        }
+
+        trigramIndex.load(internalList, indexes.getTrigramPostings());
+        indexes.getTagPostings().forEach((tagName, positions) -> {
+            Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>(positions.length * 4 / 3 + 1));
+            for (int position : positions) {
+                persons.add(internalList.get(position));
             }
+            personsByTag.put(TagDictionary.of(tagName), persons);
+        });
+        areSearchIndexesLoaded = true;
+    }
+
+    private static int yearsOf(Person person) {
+        return person.getAge() == null ? Age.NO_YEARS : person.getAge().years;
+    }
+
+    private static <K> void decrementCount(Map<K, Integer> counts, K key) {
+        counts.computeIfPresent(key, (unused, count) -> count == 1 ? null : count - 1);
+    }
+
+    /**
+     * A person in the identity index, with its position in the list as of when the positions were last fixed up.
+     */
+    private static class IdentityEntry {
+        private final Person person;
+        private int position;
+
+        IdentityEntry(Person person, int position) {
+            this.person = person;
+            this.position = position;
         }
-        return true;
     }
 }
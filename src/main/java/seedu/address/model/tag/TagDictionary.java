@@ -0,0 +1,88 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns tags, so that all tags with the same name share a single {@code Tag} instance and a single name string.
+ * Every interned tag is also given a small integer id, which {@link TagSet} uses to store tags as bits.
+ * The tag named {@link DncTag#DNC_TAG_NAME} is always interned as the {@code DncTag}, with id {@link #DNC_TAG_ID},
+ * in the same way {@code ParserUtil} and {@code JsonAdaptedTag} read that name.
+ *
+ * Tags are never removed from the dictionary, as the number of distinct tag names is small.
+ * Adding a tag copies the table of tags by id, so interning n distinct tags takes time quadratic in n.
+ */
+public class TagDictionary {
+
+    public static final int DNC_TAG_ID = 0;
+
+    private static final DncTag DNC_TAG = new DncTag();
+    private static final Map<String, Integer> idsByName =
+            new ConcurrentHashMap<>(Map.of(DncTag.DNC_TAG_NAME, DNC_TAG_ID));
+    // Replaced as a whole when a tag is added, so that readers never need to lock
+    private static volatile Tag[] tagsById = {DNC_TAG};
+
+    public static DncTag getDncTag() {
+        return DNC_TAG;
+    }
+
+    /**
+     * Returns the shared tag with the same name as {@code tag}.
+     */
+    public static Tag intern(Tag tag) {
+        requireNonNull(tag);
+        return getTag(idOf(tag));
+    }
+
+    /**
+     * Returns the shared tag named {@code tagName}, creating it if there is none yet.
+     *
+     * @throws IllegalArgumentException if there is no such tag yet and {@code tagName} is not a valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        Integer id = idsByName.get(tagName);
+        return id != null ? getTag(id) : intern(new Tag(tagName));
+    }
+
+    /**
+     * Returns the id of the tag with the same name as {@code tag}, interning {@code tag} if there is none yet.
+     */
+    public static int idOf(Tag tag) {
+        requireNonNull(tag);
+        Integer id = idsByName.get(tag.tagName);
+        return id != null ? id : add(tag);
+    }
+
+    /**
+     * Returns the id of the tag with the same name as {@code tag}, or -1 if no such tag has been interned.
+     */
+    public static int findId(Tag tag) {
+        requireNonNull(tag);
+        return idsByName.getOrDefault(tag.tagName, -1);
+    }
+
+    /**
+     * Returns the interned tag with the given {@code id}.
+     */
+    public static Tag getTag(int id) {
+        return tagsById[id];
+    }
+
+    private static synchronized int add(Tag tag) {
+        Integer existingId = idsByName.get(tag.tagName);
+        if (existingId != null) {
+            return existingId;
+        }
+
+        Tag[] tags = Arrays.copyOf(tagsById, tagsById.length + 1);
+        int id = tags.length - 1;
+        tags[id] = tag;
+        tagsById = tags;
+        idsByName.put(tag.tagName, id);
+        return id;
+    }
+}
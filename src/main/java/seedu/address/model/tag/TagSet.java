@@ -0,0 +1,151 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable set of tags, stored as a bitset of their {@link TagDictionary} ids.
+ * Tags with ids below 64 take a single {@code long}, instead of the hash table and entries of a {@code HashSet}.
+ * Any attempt to modify the set throws {@code UnsupportedOperationException}.
+ *
+ * The words for the higher ids are sized to the highest id in the set, not to the number of tags in it: a set with a
+ * tag of id N takes about N / 8 bytes, however few tags it has. Ids are handed out in the order tags are first seen
+ * and never reused, so with thousands of distinct tags (e.g. one per campaign) each person can take more than a
+ * {@code HashSet} would; {@code TagSetBenchmark} measures both cases. Interning a new tag also copies the whole
+ * id table of {@code TagDictionary}, so the number of distinct tags should stay small.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    public static final TagSet EMPTY = new TagSet(0, null);
+
+    private static final int BITS_PER_WORD = Long.SIZE;
+
+    // Bit i is set if the tag with id i is in the set, for ids below 64
+    private final long firstWord;
+    // The bits for ids from 64 onwards, one word per 64 ids; null if there are none, otherwise the last word is non-zero
+    private final long[] moreWords;
+
+    private TagSet(long firstWord, long[] moreWords) {
+        this.firstWord = firstWord;
+        this.moreWords = moreWords;
+    }
+
+    /**
+     * Returns a set of the interned versions of {@code tags}.
+     */
+    public static TagSet of(Collection<? extends Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+
+        long firstWord = 0;
+        long[] moreWords = null;
+        for (Tag tag : tags) {
+            int id = TagDictionary.idOf(tag);
+            if (id < BITS_PER_WORD) {
+                firstWord |= 1L << id;
+                continue;
+            }
+            int wordIndex = id / BITS_PER_WORD - 1;
+            if (moreWords == null || wordIndex >= moreWords.length) {
+                moreWords = moreWords == null ? new long[wordIndex + 1] : Arrays.copyOf(moreWords, wordIndex + 1);
+            }
+            moreWords[wordIndex] |= 1L << id;
+        }
+        return new TagSet(firstWord, moreWords);
+    }
+
+    /**
+     * Returns true if the tag with the given {@link TagDictionary} id is in the set.
+     */
+    public boolean containsId(int id) {
+        return (wordAt(id / BITS_PER_WORD) & (1L << id)) != 0;
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        if (!(other instanceof Tag)) {
+            return false;
+        }
+        int id = TagDictionary.findId((Tag) other);
+        return id >= 0 && containsId(id);
+    }
+
+    @Override
+    public int size() {
+        int size = Long.bitCount(firstWord);
+        for (int i = 0; moreWords != null && i < moreWords.length; i++) {
+            size += Long.bitCount(moreWords[i]);
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return firstWord == 0 && moreWords == null;
+    }
+
+    /**
+     * Returns an iterator over the tags in ascending order of id.
+     */
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int wordIndex = 0;
+            private long remainingBits = firstWord;
+
+            @Override
+            public boolean hasNext() {
+                while (remainingBits == 0 && moreWords != null && wordIndex < moreWords.length) {
+                    remainingBits = moreWords[wordIndex++];
+                }
+                return remainingBits != 0;
+            }
+
+            @Override
+            public Tag next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int id = wordIndex * BITS_PER_WORD + Long.numberOfTrailingZeros(remainingBits);
+                remainingBits &= remainingBits - 1;
+                return TagDictionary.getTag(id);
+            }
+        };
+    }
+
+    private long wordAt(int wordIndex) {
+        if (wordIndex == 0) {
+            return firstWord;
+        }
+        return moreWords != null && wordIndex <= moreWords.length ? moreWords[wordIndex - 1] : 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (other instanceof TagSet) {
+            TagSet otherTagSet = (TagSet) other;
+            return firstWord == otherTagSet.firstWord && Arrays.equals(moreWords, otherTagSet.moreWords);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        // must agree with the hash code of any other set holding the same tags
+        return super.hashCode();
+    }
+}
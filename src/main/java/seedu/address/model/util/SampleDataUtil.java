@@ -17,6 +17,7 @@ import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Priority;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagDictionary;
 /**
  * Contains utility methods for populating {@code AddressBook} with sample data.
  */
@@ -28,79 +29,79 @@ public class SampleDataUtil {
             new Person(
                 new Name("Alex Yeoh"),
                 new Phone("87438807"),
-                new Email(""),
-                new Address(""),
-                new Occupation(""),
+                Email.EMPTY,
+                Address.EMPTY,
+                Occupation.EMPTY,
                 getTagSet("not attempted"),
-                new Priority(Priority.Level.NONE),
-                new Age(""),
+                Priority.of(Priority.Level.NONE),
+                Age.EMPTY,
                 null,
-                new LastContactedDate("")
+                LastContactedDate.EMPTY
             ),
             // Bernice Yu - all fields except email, address, age and income bracket
             new Person(
                 new Name("Bernice Yu"),
                 new Phone("99272758"),
-                new Email(""),
-                new Address(""),
-                new Occupation("Engineer"),
+                Email.EMPTY,
+                Address.EMPTY,
+                Occupation.of("Engineer"),
                 getTagSet("interested", "follow up"),
-                new Priority(Priority.Level.HIGH),
-                new Age(""),
+                Priority.of(Priority.Level.HIGH),
+                Age.EMPTY,
                 null,
-                new LastContactedDate("2025-10-01")
+                LastContactedDate.of("2025-10-01")
             ),
             // Charlotte Oliveiro - all fields except email and address
             new Person(
                 new Name("Charlotte Oliveiro"),
                 new Phone("93210283"),
-                new Email(""),
-                new Address(""),
-                new Occupation("Teacher"),
+                Email.EMPTY,
+                Address.EMPTY,
+                Occupation.of("Teacher"),
                 getTagSet("attempted"),
-                new Priority(Priority.Level.LOW),
-                new Age("40"),
-                new IncomeBracket(IncomeBracket.Level.LOW),
-                new LastContactedDate("2025-10-20")
+                Priority.of(Priority.Level.LOW),
+                Age.of("40"),
+                IncomeBracket.of(IncomeBracket.Level.LOW),
+                LastContactedDate.of("2025-10-20")
             ),
             // David Li - all fields except income bracket
             new Person(
                 new Name("David Li"),
                 new Phone("91031282"),
-                new Email("lidavid@example.com"),
-                new Address("Blk 436 Serangoon Gardens Street 26, #16-43"),
-                new Occupation("Student"),
+                Email.of("lidavid@example.com"),
+                Address.of("Blk 436 Serangoon Gardens Street 26, #16-43"),
+                Occupation.of("Student"),
                 getTagSet("interested"),
-                new Priority(Priority.Level.HIGH),
-                new Age("24"),
+                Priority.of(Priority.Level.HIGH),
+                Age.of("24"),
                 null,
-                new LastContactedDate("2025-05-20")
+                LastContactedDate.of("2025-05-20")
             ),
             // Irfan Ibrahim - all fields except email, address, priority and last contacted date
             new Person(
                 new Name("Irfan Ibrahim"),
                 new Phone("92492021"),
-                new Email(""),
-                new Address(""),
-                new Occupation("Designer"),
+                Email.EMPTY,
+                Address.EMPTY,
+                Occupation.of("Designer"),
                 getTagSet("not attempted", "follow up"),
-                new Priority(Priority.Level.NONE),
-                new Age("23"),
-                new IncomeBracket(IncomeBracket.Level.MIDDLE),
-                new LastContactedDate("")
+                Priority.of(Priority.Level.NONE),
+                Age.of("23"),
+                IncomeBracket.of(IncomeBracket.Level.MIDDLE),
+                LastContactedDate.EMPTY
             ),
             // Roy Balakrishnan - all fields
             new Person(
                 new Name("Roy Balakrishnan"),
                 new Phone("92624417"),
-                new Email("royb@example.com"),
-                new Address("Blk 45 Aljunied Street 85, #11-31"),
-                new Occupation("Chef"),
+                Email.of("royb@example.com"),
+                Address.of("Blk 45 Aljunied Street 85, #11-31"),
+                Occupation.of("Chef"),
                 getTagSet("converted"),
-                new Priority(Priority.Level.MEDIUM),
-                new Age("35"),
-                new IncomeBracket(IncomeBracket.Level.HIGH),
-                new LastContactedDate("2024-12-05")
+                Priority.of(Priority.Level.MEDIUM),
+                Age.of("35"),
+                IncomeBracket.of(IncomeBracket.Level.HIGH),
+                LastContactedDate.of("2024-12-05")
             )
         };
     }
@@ -118,7 +119,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-            .map(Tag::new)
+            .map(TagDictionary::of)
             .collect(Collectors.toSet());
     }
 
@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+import seedu.address.commons.core.AddressBookFileFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts address book files between the json, binary and sharded formats.
+ * The input file may be in any format, and every field of every person is carried over.
+ *
+ * Usage: {@code java -cp insurabook.jar seedu.address.storage.AddressBookFileConverter <json|binary|sharded>
+ * <input file> <output file>}
+ */
+public class AddressBookFileConverter {
+
+    public static final String MESSAGE_USAGE =
+            "Usage: AddressBookFileConverter <json|binary|sharded> <input file> <output file>";
+    public static final String MESSAGE_INPUT_NOT_FOUND = "Input file %s does not exist";
+    public static final String MESSAGE_SUCCESS = "Converted %d persons from %s to %s file %s";
+
+    private AddressBookFileConverter() {}
+
+    /**
+     * Converts the file named by the second argument into the format named by the first argument, and writes it to
+     * the file named by the third argument.
+     */
+    public static void main(String[] args) {
+        if (args.length != 3) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        try {
+            AddressBookFileFormat format = AddressBookFileFormat.valueOf(args[0].toUpperCase(Locale.ROOT));
+            Path inputFile = Paths.get(args[1]);
+            Path outputFile = Paths.get(args[2]);
+            int personCount = convert(inputFile, outputFile, format);
+            System.out.println(String.format(MESSAGE_SUCCESS, personCount, inputFile, format, outputFile));
+        } catch (IllegalArgumentException iae) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        } catch (DataLoadingException | IOException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Reads the address book in {@code inputFile} and writes it to {@code outputFile} in {@code format}.
+     *
+     * @return the number of persons converted.
+     * @throws DataLoadingException if {@code inputFile} does not exist or could not be read.
+     * @throws IOException if {@code outputFile} could not be written.
+     */
+    public static int convert(Path inputFile, Path outputFile, AddressBookFileFormat format)
+            throws DataLoadingException, IOException {
+        requireNonNull(inputFile);
+        requireNonNull(outputFile);
+        requireNonNull(format);
+
+        AddressBookStorage inputStorage = ShardedAddressBookStorage.isManifestFile(inputFile)
+                ? new ShardedAddressBookStorage(inputFile)
+                : new JsonAddressBookStorage(inputFile);
+        ReadOnlyAddressBook addressBook = inputStorage.readAddressBook()
+                .orElseThrow(() -> new DataLoadingException(
+                        new IOException(String.format(MESSAGE_INPUT_NOT_FOUND, inputFile))));
+        createStorage(outputFile, format, false, false).saveAddressBook(addressBook);
+        return addressBook.getPersonList().size();
+    }
+
+    /**
+     * Returns a storage for the address book file at {@code filePath} in {@code format}.
+     *
+     * @param isCompact if true, json files are written without indentation.
+     * @param isCompressed if true, json and binary files are compressed with GZIP; sharded files never are.
+     */
+    public static AddressBookStorage createStorage(Path filePath, AddressBookFileFormat format, boolean isCompact,
+            boolean isCompressed) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath, isCompressed);
+        case SHARDED:
+            return new ShardedAddressBookStorage(filePath);
+        default:
+            return new JsonAddressBookStorage(filePath, isCompact, isCompressed);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.storage;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+
+/**
+ * Reads address book files in any of the supported formats, telling them apart by their first bytes.
+ * This lets a file written in one format still be read after the preferred format has been changed.
+ * A file in any of the formats may also be compressed with GZIP, which is recognised by its magic number.
+ */
+final class AddressBookFileReader {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    // Long enough to tell every format apart
+    private static final int HEADER_LENGTH = ShardedAddressBookStorage.MANIFEST_PREFIX.length;
+    private static final byte[] GZIP_MAGIC = {(byte) 0x1F, (byte) 0x8B};
+
+    private AddressBookFileReader() {}
+
+    /**
+     * Reads an address book from {@code in}, in whichever format it was written.
+     *
+     * @throws IOException if {@code in} could not be read, or does not hold an address book in a known format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        BufferedInputStream bufferedIn = new BufferedInputStream(in, BUFFER_SIZE);
+        bufferedIn.mark(HEADER_LENGTH);
+        byte[] header = bufferedIn.readNBytes(HEADER_LENGTH);
+        bufferedIn.reset();
+
+        if (isCompressed(header)) {
+            return read(new GZIPInputStream(bufferedIn, BUFFER_SIZE));
+        }
+        if (BinaryAddressBookStreams.hasMagic(header)) {
+            return BinaryAddressBookStreams.read(bufferedIn);
+        }
+        if (ShardedAddressBookStorage.isManifestHeader(header)) {
+            // its shards cannot be found from the stream, and it must not be mistaken for an empty address book
+            throw new IOException(ShardedAddressBookStorage.MESSAGE_MANIFEST_NOT_ADDRESS_BOOK);
+        }
+        return JsonAddressBookStreams.read(bufferedIn);
+    }
+
+    private static boolean isCompressed(byte[] header) {
+        return header.length >= GZIP_MAGIC.length && header[0] == GZIP_MAGIC[0] && header[1] == GZIP_MAGIC[1];
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
@@ -30,6 +31,24 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException;
 
+    /**
+     * Returns the AddressBook data as it was before the last time it was saved, for use when the current data
+     * cannot be loaded. Returns {@code Optional.empty()} if no earlier data was kept.
+     *
+     * @throws DataLoadingException if loading the earlier data failed.
+     */
+    default Optional<ReadOnlyAddressBook> readBackupAddressBook() throws DataLoadingException {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the problems found by the last read of the data file at the default file path that did not stop it
+     * from being read, worded for the user, e.g. changes that had to be left out. Returns an empty list if none.
+     */
+    default List<String> getReadWarnings() {
+        return List.of();
+    }
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
@@ -42,4 +61,12 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Writes whatever this storage has held back from the saves so far, e.g. files that only save work the next
+     * time the data is read. Called when the app stops.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void flushAddressBook() throws IOException {}
+
 }
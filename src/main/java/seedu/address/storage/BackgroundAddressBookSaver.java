@@ -0,0 +1,102 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books on a background thread, so that requesting a save never waits for the disk.
+ * Saves requested while an earlier one is still waiting to be written are coalesced, so that only the latest
+ * address book is written.
+ */
+class BackgroundAddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundAddressBookSaver.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // The address book waiting to be written; while it is not null, a task to write it is queued on the executor
+    private final AtomicReference<ReadOnlyAddressBook> pendingAddressBook = new AtomicReference<>();
+    private volatile Consumer<IOException> errorHandler = error -> {};
+    // The failure of the last save written, or null if it succeeded
+    private volatile IOException lastError;
+
+    BackgroundAddressBookSaver(AddressBookStorage addressBookStorage) {
+        this.addressBookStorage = addressBookStorage;
+    }
+
+    /**
+     * Sets the handler to be given the failure of any save. The handler is called on the background thread.
+     */
+    void setErrorHandler(Consumer<IOException> errorHandler) {
+        requireNonNull(errorHandler);
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * Queues {@code addressBook} to be saved, replacing any address book that is still waiting to be written.
+     * {@code addressBook} must not change after this, e.g. it is a {@link ReadOnlyAddressBook#snapshot()}.
+     */
+    void save(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (pendingAddressBook.getAndSet(addressBook) == null) {
+            executor.execute(this::writePendingAddressBook);
+        }
+    }
+
+    /**
+     * Waits until every address book queued so far has been written.
+     *
+     * @throws IOException if the last save failed, or the wait was interrupted.
+     */
+    void flush() throws IOException {
+        try {
+            // the executor runs tasks in order, so every save queued before this no-op is done when it is
+            executor.submit(() -> {}).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the address book to be saved");
+        } catch (ExecutionException ee) {
+            throw new AssertionError("Waiting for saves does not fail", ee);
+        }
+
+        IOException error = lastError;
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    private void writePendingAddressBook() {
+        ReadOnlyAddressBook addressBook = pendingAddressBook.getAndSet(null);
+        try {
+            addressBookStorage.saveAddressBook(addressBook);
+            lastError = null;
+        } catch (IOException ioe) {
+            reportError(ioe);
+        } catch (RuntimeException re) {
+            // e.g. a bug in a storage; it is reported like an IOException, since the address book was not saved
+            reportError(new IOException(re));
+        }
+    }
+
+    private void reportError(IOException error) {
+        logger.warning("Failed to save address book in the background: " + StringUtil.getDetails(error));
+        lastError = error;
+        errorHandler.accept(error);
+    }
+}
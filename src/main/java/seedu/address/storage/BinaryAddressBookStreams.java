@@ -0,0 +1,295 @@
+package seedu.address.storage;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Age;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.IncomeBracket;
+import seedu.address.model.person.LastContactedDate;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Occupation;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Priority;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagDictionary;
+import seedu.address.model.tag.TagSet;
+
+/**
+ * Reads and writes address books in a compact binary format, one person at a time.
+ *
+ * The file starts with {@link #MAGIC} and the format version, followed by the number of persons, each person in
+ * turn, and a CRC32 of everything before it. Numbers are written as unsigned varints, 7 bits to a byte.
+ * Names, phones and emails are written as length-prefixed UTF-8. Addresses, occupations and tags are often shared
+ * by many persons, so each distinct value is written only once: a value is referred to by its index in the order
+ * the values were first written, and an index one past the last known value is followed by a new value.
+ * Enums are written as their ordinal, ages as their number and dates as their epoch day.
+ *
+ * New enum constants must only ever be added at the end, so that the ordinals in existing files keep their meaning.
+ * Any other change to the layout must come with a new {@link #FORMAT_VERSION}.
+ */
+final class BinaryAddressBookStreams {
+
+    static final byte[] MAGIC = {'I', 'B', 'A', 'B'};
+    static final int FORMAT_VERSION = 1;
+
+    static final String MESSAGE_NOT_BINARY = "Not a binary address book file";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary address book version %d";
+    static final String MESSAGE_CORRUPTED = "Binary address book file is corrupted";
+
+    private static final int MAX_STRING_BYTES = 1 << 20;
+    private static final int MAX_INITIAL_CAPACITY = 1 << 16;
+
+    private BinaryAddressBookStreams() {}
+
+    /**
+     * Returns true if {@code header}, the first bytes of a file, starts with {@link #MAGIC}.
+     */
+    static boolean hasMagic(byte[] header) {
+        return header.length >= MAGIC.length && Arrays.equals(header, 0, MAGIC.length, MAGIC, 0, MAGIC.length);
+    }
+
+    /**
+     * Reads an address book from {@code in}.
+     * Each distinct address, occupation and tag is checked and converted only once, and shared by every person
+     * who has it.
+     *
+     * @throws IOException if {@code in} could not be read, or does not hold an address book in this format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        CRC32 crc = new CRC32();
+        DataInputStream data = new DataInputStream(new CheckedInputStream(in, crc));
+
+        byte[] magic = new byte[MAGIC.length];
+        data.readFully(magic);
+        if (!hasMagic(magic)) {
+            throw new IOException(MESSAGE_NOT_BINARY);
+        }
+        int version = readVarInt(data);
+        if (version != FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        int personCount = readVarInt(data);
+        List<Person> persons = new ArrayList<>(Math.min(personCount, MAX_INITIAL_CAPACITY));
+        List<Address> addresses = new ArrayList<>();
+        List<Occupation> occupations = new ArrayList<>();
+        List<Tag> tags = new ArrayList<>();
+        for (int i = 0; i < personCount; i++) {
+            persons.add(readPerson(data, addresses, occupations, tags));
+        }
+
+        int expectedChecksum = (int) crc.getValue();
+        if (new DataInputStream(in).readInt() != expectedChecksum || in.read() != -1) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+        return JsonSerializableAddressBook.toAddressBook(persons);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}. Does not close {@code out}.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        CRC32 crc = new CRC32();
+        DataOutputStream data = new DataOutputStream(new CheckedOutputStream(out, crc));
+
+        data.write(MAGIC);
+        writeVarInt(data, FORMAT_VERSION);
+        List<Person> persons = addressBook.getPersonList();
+        writeVarInt(data, persons.size());
+        Map<String, Integer> addressIds = new HashMap<>();
+        Map<String, Integer> occupationIds = new HashMap<>();
+        Map<String, Integer> tagIds = new HashMap<>();
+        for (Person person : persons) {
+            writePerson(data, person, addressIds, occupationIds, tagIds);
+        }
+        data.flush();
+
+        new DataOutputStream(out).writeInt((int) crc.getValue());
+    }
+
+    private static Person readPerson(DataInputStream in, List<Address> addresses, List<Occupation> occupations,
+            List<Tag> tags) throws IOException, IllegalValueException {
+        try {
+            Name name = new Name(readString(in));
+            Phone phone = new Phone(readString(in));
+            Email email = Email.of(readString(in));
+            Address address = readShared(in, addresses, Address::of);
+            Occupation occupation = readShared(in, occupations, Occupation::of);
+
+            int ageValue = readVarInt(in);
+            Age age = ageValue == Age.NO_YEARS ? Age.EMPTY : Age.of(String.valueOf(ageValue));
+            Priority priority = Priority.of(readEnum(in, Priority.Level.values()));
+            int incomeBracketValue = readVarInt(in);
+            IncomeBracket incomeBracket = incomeBracketValue == 0
+                    ? null
+                    : IncomeBracket.of(enumAt(IncomeBracket.Level.values(), incomeBracketValue - 1));
+            int dateValue = readVarInt(in);
+            LastContactedDate lastContactedDate = dateValue == 0
+                    ? LastContactedDate.EMPTY
+                    : LastContactedDate.of(LocalDate.ofEpochDay(decodeZigZag(dateValue - 1)).toString());
+
+            int tagCount = readVarInt(in);
+            List<Tag> personTags = new ArrayList<>(Math.min(tagCount, MAX_INITIAL_CAPACITY));
+            for (int i = 0; i < tagCount; i++) {
+                personTags.add(readShared(in, tags, TagDictionary::of));
+            }
+
+            return new Person(name, phone, email, address, occupation, TagSet.of(personTags), priority, age,
+                    incomeBracket, lastContactedDate);
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(iae.getMessage());
+        }
+    }
+
+    private static void writePerson(DataOutputStream out, Person person, Map<String, Integer> addressIds,
+            Map<String, Integer> occupationIds, Map<String, Integer> tagIds) throws IOException {
+        writeString(out, person.getName().fullName);
+        writeString(out, person.getPhone().value);
+        writeString(out, person.getEmail().value);
+        writeShared(out, addressIds, person.getAddress().value);
+        writeShared(out, occupationIds, person.getOccupation().value);
+
+        Age age = person.getAge();
+        writeVarInt(out, age == null ? Age.NO_YEARS : age.years);
+        writeVarInt(out, person.getPriority().value.ordinal());
+        IncomeBracket incomeBracket = person.getIncomeBracket();
+        writeVarInt(out, incomeBracket == null ? 0 : incomeBracket.value.ordinal() + 1);
+        LastContactedDate date = person.getLastContactedDate();
+        writeVarInt(out, date.value.isEmpty() ? 0 : encodeZigZag(date.epochDay) + 1);
+
+        Set<Tag> tags = person.getTags();
+        writeVarInt(out, tags.size());
+        for (Tag tag : tags) {
+            writeShared(out, tagIds, tag.tagName);
+        }
+    }
+
+    /**
+     * Reads a reference to a shared value, reading and converting the value itself if it is a new one.
+     */
+    private static <T> T readShared(DataInputStream in, List<T> values, Function<String, T> converter)
+            throws IOException {
+        int id = readVarInt(in);
+        if (id == values.size()) {
+            values.add(converter.apply(readString(in)));
+        } else if (id > values.size()) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+        return values.get(id);
+    }
+
+    /**
+     * Writes a reference to a shared value, followed by the value itself if it has not been written before.
+     */
+    private static void writeShared(DataOutputStream out, Map<String, Integer> ids, String value) throws IOException {
+        Integer id = ids.get(value);
+        if (id != null) {
+            writeVarInt(out, id);
+            return;
+        }
+        writeVarInt(out, ids.size());
+        writeString(out, value);
+        ids.put(value, ids.size());
+    }
+
+    /**
+     * Reads a string written by {@link #writeString}.
+     */
+    static String readString(DataInputStream in) throws IOException {
+        int length = readVarInt(in);
+        if (length > MAX_STRING_BYTES) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes {@code value} as its length in UTF-8 bytes, followed by those bytes.
+     */
+    static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static <E extends Enum<E>> E readEnum(DataInputStream in, E[] constants) throws IOException {
+        return enumAt(constants, readVarInt(in));
+    }
+
+    private static <E extends Enum<E>> E enumAt(E[] constants, int ordinal) throws IOException {
+        if (ordinal >= constants.length) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+        return constants[ordinal];
+    }
+
+    /**
+     * Reads a non-negative int written by {@link #writeVarInt}.
+     */
+    static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException();
+            }
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new IOException(MESSAGE_CORRUPTED);
+    }
+
+    /**
+     * Writes a non-negative int in as few bytes as it needs, 7 bits to a byte, lowest bits first.
+     */
+    static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        assert value >= 0;
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            out.write((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.write(remaining);
+    }
+
+    /**
+     * Maps ints of small magnitude, negative or not, to small non-negative ints.
+     */
+    private static int encodeZigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int decodeZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
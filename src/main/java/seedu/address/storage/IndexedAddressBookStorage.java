@@ -0,0 +1,205 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndexes;
+
+/**
+ * A class to access AddressBook data kept by another {@code AddressBookStorage}, together with the search indexes of
+ * its persons, so that the indexes need not be built again every time the app starts.
+ *
+ * The indexes live next to the data file, with {@value #INDEX_FILE_SUFFIX} appended to its file name. They change
+ * with almost every change to the persons, but are only read when the app starts, so they are written once, when the
+ * storage is flushed as the app stops, rather than after every save. They hold the fingerprint of the persons they
+ * were built from, and are only used when that matches the persons read from the data file; otherwise, e.g. if the
+ * app did not stop normally, the indexes are built again in the background while the app starts up.
+ *
+ * The index file only ever saves work, so failing to read or write it is logged rather than reported.
+ */
+public class IndexedAddressBookStorage implements AddressBookStorage {
+
+    public static final String INDEX_FILE_SUFFIX = ".index";
+
+    private static final Logger logger = LogsCenter.getLogger(IndexedAddressBookStorage.class);
+
+    private final AddressBookStorage dataStorage;
+
+    // The fingerprint of the indexes in the index file of the default file path, or null if it is not known
+    private Long savedFingerprint;
+    // The address book last saved to the default file path, whose indexes are not written yet; null if none
+    private ReadOnlyAddressBook unindexedAddressBook;
+
+    public IndexedAddressBookStorage(Path filePath) {
+        this(new JsonAddressBookStorage(filePath));
+    }
+
+    /**
+     * Creates a storage that keeps the address book data in {@code dataStorage}.
+     */
+    public IndexedAddressBookStorage(AddressBookStorage dataStorage) {
+        requireNonNull(dataStorage);
+        this.dataStorage = dataStorage;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return dataStorage.getAddressBookFilePath();
+    }
+
+    /**
+     * Returns the location of the index file that belongs to the data file at {@code filePath}.
+     */
+    public static Path getIndexFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + INDEX_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Reads the data file at {@code filePath}, together with its index file if that matches the persons read.
+     * If it does not, the indexes start being built in the background.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if the data file could not be read.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> data = dataStorage.readAddressBook(filePath);
+        if (!data.isPresent()) {
+            return data;
+        }
+
+        List<Person> persons = data.get().getPersonList();
+        Optional<PersonIndexes> indexes = readIndexes(getIndexFilePath(filePath), persons);
+        // the address book read is kept, rather than copied, so that it stays the origin the data storage knows
+        AddressBook addressBook = data.get() instanceof AddressBook
+                ? (AddressBook) data.get()
+                : new AddressBook(data.get());
+        if (indexes.isPresent()) {
+            addressBook.setIndexes(indexes.get());
+        } else {
+            addressBook.buildIndexesInBackground();
+        }
+
+        if (filePath.equals(getAddressBookFilePath())) {
+            savedFingerprint = indexes.map(PersonIndexes::getFingerprint).orElse(null);
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Returns the indexes in {@code indexFilePath} if they were built from {@code persons}.
+     */
+    private static Optional<PersonIndexes> readIndexes(Path indexFilePath, List<Person> persons) {
+        if (!Files.exists(indexFilePath)) {
+            return Optional.empty();
+        }
+
+        PersonIndexes indexes;
+        try {
+            indexes = PersonIndexesFile.read(indexFilePath);
+        } catch (IOException ioe) {
+            logger.warning("Ignoring index file " + indexFilePath + " as it could not be read: " + ioe);
+            return Optional.empty();
+        }
+        if (indexes.getPersonCount() != persons.size()
+                || indexes.getFingerprint() != PersonIndexes.fingerprintOf(persons)) {
+            logger.info("Ignoring index file " + indexFilePath + " as it does not belong to the current data");
+            return Optional.empty();
+        }
+        logger.fine("Loaded indexes from " + indexFilePath);
+        return Optional.of(indexes);
+    }
+
+    @Override
+    public List<String> getReadWarnings() {
+        return dataStorage.getReadWarnings();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readBackupAddressBook() throws DataLoadingException {
+        return dataStorage.readBackupAddressBook();
+    }
+
+    /**
+     * Saves {@code addressBook}. Its indexes are only written when this storage is flushed.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        unindexedAddressBook = null;
+        dataStorage.saveAddressBook(addressBook);
+        unindexedAddressBook = addressBook;
+    }
+
+    /**
+     * Writes the indexes of the address book last saved to the default file path to the index file, unless they are
+     * already there. The indexes the address book has already built are written as they are; otherwise they are
+     * built here.
+     */
+    @Override
+    public void flushAddressBook() throws IOException {
+        dataStorage.flushAddressBook();
+        if (unindexedAddressBook == null) {
+            return;
+        }
+        ReadOnlyAddressBook addressBook = unindexedAddressBook;
+        unindexedAddressBook = null;
+
+        List<Person> persons = addressBook.getPersonList();
+        Optional<PersonIndexes> builtIndexes = addressBook.getIndexes();
+        long fingerprint = builtIndexes.isPresent()
+                ? builtIndexes.get().getFingerprint()
+                : PersonIndexes.fingerprintOf(persons);
+        Path indexFilePath = getIndexFilePath(getAddressBookFilePath());
+        if (savedFingerprint != null && savedFingerprint == fingerprint && Files.exists(indexFilePath)) {
+            return;
+        }
+
+        savedFingerprint = null;
+        try {
+            PersonIndexesFile.write(indexFilePath, builtIndexes.orElseGet(() -> PersonIndexes.build(persons)));
+            savedFingerprint = fingerprint;
+        } catch (IOException ioe) {
+            logger.warning("Failed to write index file " + indexFilePath + ": " + StringUtil.getDetails(ioe));
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to the data file at {@code filePath}.
+     * Saving to the default file path is the same as {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (filePath.equals(getAddressBookFilePath())) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        // any index file already at filePath no longer matches the data, so it will be ignored when read
+        dataStorage.saveAddressBook(addressBook, filePath);
+    }
+}
@@ -0,0 +1,327 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file, together with a journal of the changes made
+ * since the snapshot was written.
+ *
+ * Saving an address book that was saved before only appends its new changes to the journal, one json record per
+ * line, so the cost of a save grows with the size of the change rather than the size of the address book.
+ * The snapshot is rewritten, and the journal emptied, when the changes are not known (e.g. a different address book
+ * is saved, or its contents were replaced as a whole) or when the journal has grown past its compaction threshold.
+ * Snapshots of an address book count as the same address book, through {@link ReadOnlyAddressBook#getOrigin()}.
+ *
+ * The journal lives next to the snapshot, with {@value #JOURNAL_FILE_SUFFIX} appended to its file name.
+ * Its first line holds a checksum of the snapshot it applies to, so a journal that does not apply to the snapshot,
+ * as left behind by an interrupted compaction or a hand edit of the snapshot, is recognised as stale. A stale journal
+ * is not replayed, but moved aside with {@value #STALE_JOURNAL_FILE_SUFFIX} appended to its file name, and reported
+ * through {@link #getReadWarnings()}.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String STALE_JOURNAL_FILE_SUFFIX = ".stale";
+    public static final String MESSAGE_STALE_JOURNAL = "The changes in %1$s were not applied, as it does not belong "
+            + "to the data file, e.g. because the data file was edited by hand. They were kept in %2$s.";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final AddressBookStorage snapshotStorage;
+    private final int compactionThreshold;
+
+    // The origin of the address book last read from or saved to the default file path, and its version at the time
+    private Object savedOrigin;
+    private long savedVersion;
+    private int journalRecordCount;
+    private List<String> readWarnings = List.of();
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(new JsonAddressBookStorage(filePath));
+    }
+
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage that keeps its snapshots in {@code snapshotStorage}, and rewrites the snapshot once the
+     * journal holds more than {@code compactionThreshold} records.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    /**
+     * Returns the location of the journal that belongs to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath}, then replays its journal over it.
+     * An incomplete last journal record, as left by a crash in the middle of a save, is ignored.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if the snapshot or the journal could not be read, or the journal does not apply.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        boolean isDefaultFilePath = filePath.equals(getAddressBookFilePath());
+        if (isDefaultFilePath) {
+            savedOrigin = null;
+            readWarnings = List.of();
+        }
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!snapshot.isPresent() || !Files.exists(journalFilePath)) {
+            // the journal is only appended to once a compaction has given it its header
+            return snapshot;
+        }
+
+        List<String> records;
+        long snapshotChecksum;
+        try {
+            records = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+            snapshotChecksum = checksumOf(filePath);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+        if (records.isEmpty() || !isHeaderOf(records.get(0), snapshotChecksum)) {
+            logger.warning("Ignoring journal " + journalFilePath + " as it does not belong to the current snapshot");
+            String warning = moveAsideStaleJournal(journalFilePath);
+            if (isDefaultFilePath) {
+                readWarnings = List.of(warning);
+            }
+            return snapshot;
+        }
+
+        AddressBook addressBook = new AddressBook(snapshot.get());
+        for (int i = 1; i < records.size(); i++) {
+            JsonAdaptedChange change;
+            try {
+                change = JsonUtil.fromJsonString(records.get(i), JsonAdaptedChange.class);
+            } catch (IOException ioe) {
+                if (i == records.size() - 1) {
+                    logger.warning("Ignoring incomplete last record of journal " + journalFilePath);
+                    break;
+                }
+                logger.warning("Error reading record " + i + " of journal " + journalFilePath + ": " + ioe);
+                throw new DataLoadingException(ioe);
+            }
+
+            try {
+                change.applyTo(addressBook);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in record " + i + " of journal " + journalFilePath + ": "
+                        + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+        }
+        logger.info("Replayed " + (records.size() - 1) + " journal records over " + filePath);
+        if (isDefaultFilePath) {
+            // the next save appends to the journal that was just replayed
+            savedOrigin = addressBook.getOrigin();
+            savedVersion = addressBook.getVersion();
+            journalRecordCount = records.size() - 1;
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Returns the stale journal reported by the last read of the default file path, if it found one.
+     */
+    @Override
+    public List<String> getReadWarnings() {
+        return readWarnings;
+    }
+
+    /**
+     * Moves the stale journal at {@code journalFilePath} aside, so that the next compaction does not overwrite the
+     * changes in it, and returns the message telling the user where they were kept.
+     */
+    private static String moveAsideStaleJournal(Path journalFilePath) throws DataLoadingException {
+        Path staleJournalFilePath = journalFilePath.resolveSibling(
+                journalFilePath.getFileName() + STALE_JOURNAL_FILE_SUFFIX);
+        try {
+            Files.move(journalFilePath, staleJournalFilePath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException ioe) {
+            logger.warning("Error moving aside stale journal " + journalFilePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+        return String.format(MESSAGE_STALE_JOURNAL, journalFilePath, staleJournalFilePath);
+    }
+
+    /**
+     * Returns the snapshot from before the last compaction. Its journal is not replayed, as the journal belongs
+     * to the current snapshot.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readBackupAddressBook() throws DataLoadingException {
+        return snapshotStorage.readBackupAddressBook();
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        snapshotStorage.flushAddressBook();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        Optional<List<AddressBookChange>> changes = changesSinceSaved(addressBook);
+        long version = addressBook.getVersion();
+        // forces a compaction by the next save if this one fails part way
+        savedOrigin = null;
+        if (changes.isPresent() && canAppend(changes.get())) {
+            appendToJournal(changes.get());
+        } else {
+            compact(addressBook);
+        }
+        savedOrigin = addressBook.getOrigin();
+        savedVersion = version;
+    }
+
+    /**
+     * Writes a snapshot of {@code addressBook} to {@code filePath}.
+     * Saving to the default file path goes through the journal, as in {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (filePath.equals(getAddressBookFilePath())) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        // any journal already at filePath no longer matches the snapshot, so it will be ignored when read
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Returns the changes made to {@code addressBook} since it was last read or saved, including when it is a copy of
+     * the address book that was, or {@code Optional.empty()} if they are not known.
+     */
+    private Optional<List<AddressBookChange>> changesSinceSaved(ReadOnlyAddressBook addressBook) {
+        if (savedOrigin == null) {
+            return Optional.empty();
+        }
+        if (addressBook.getOrigin() == savedOrigin) {
+            return addressBook.getChangesSince(savedVersion);
+        }
+
+        // e.g. the model's copy of the address book that was read
+        Optional<List<AddressBookChange>> changes = addressBook.getChangesSince(0);
+        if (changes.isEmpty() || changes.get().isEmpty()
+                || !changes.get().get(0).isCopyOf(savedOrigin, savedVersion)) {
+            return Optional.empty();
+        }
+        return Optional.of(changes.get().subList(1, changes.get().size()));
+    }
+
+    private boolean canAppend(List<AddressBookChange> changes) {
+        return journalRecordCount + changes.size() <= compactionThreshold
+                && changes.stream().noneMatch(change -> change.getType() == AddressBookChange.Type.RESET);
+    }
+
+    private void appendToJournal(List<AddressBookChange> changes) throws IOException {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        StringBuilder records = new StringBuilder();
+        for (AddressBookChange change : changes) {
+            records.append(JsonUtil.toCompactJsonString(new JsonAdaptedChange(change))).append('\n');
+        }
+        Files.write(getJournalFilePath(getAddressBookFilePath()), records.toString().getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        journalRecordCount += changes.size();
+    }
+
+    /**
+     * Rewrites the snapshot with the whole of {@code addressBook}, and starts an empty journal for it.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        Path filePath = getAddressBookFilePath();
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+
+        String header = JsonUtil.toCompactJsonString(new JournalHeader(checksumOf(filePath))) + '\n';
+        Path journalFilePath = getJournalFilePath(filePath);
+        FileUtil.writeToFile(journalFilePath, header);
+        journalRecordCount = 0;
+        logger.fine("Compacted address book journal into " + filePath);
+    }
+
+    private static boolean isHeaderOf(String record, long snapshotChecksum) {
+        try {
+            return JsonUtil.fromJsonString(record, JournalHeader.class).snapshotChecksum == snapshotChecksum;
+        } catch (IOException ioe) {
+            return false;
+        }
+    }
+
+    private static long checksumOf(Path filePath) throws IOException {
+        try (CheckedInputStream in = new CheckedInputStream(Files.newInputStream(filePath), new CRC32())) {
+            in.transferTo(OutputStream.nullOutputStream());
+            return in.getChecksum().getValue();
+        }
+    }
+
+    /**
+     * The first line of a journal, identifying the snapshot it applies to.
+     */
+    private static class JournalHeader {
+        private final long snapshotChecksum;
+
+        @JsonCreator
+        JournalHeader(@JsonProperty("snapshotChecksum") long snapshotChecksum) {
+            this.snapshotChecksum = snapshotChecksum;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * Jackson-friendly version of an {@link AddressBookChange}, written as one record of an address book journal.
+ * {@code RESET} changes cannot be recorded, as they do not carry the new contents of the address book.
+ */
+class JsonAdaptedChange {
+
+    public static final String MESSAGE_INVALID_TYPE = "Journal record has an invalid type: %s";
+    public static final String MESSAGE_MISSING_PERSON = "Journal record of type %s is missing its %s";
+    public static final String MESSAGE_INAPPLICABLE_CHANGE = "Journal record of type %s does not apply: %s";
+
+    private final String type;
+    private final JsonAdaptedPerson target;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedChange} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedChange(@JsonProperty("type") String type, @JsonProperty("target") JsonAdaptedPerson target,
+            @JsonProperty("person") JsonAdaptedPerson person) {
+        this.type = type;
+        this.target = target;
+        this.person = person;
+    }
+
+    /**
+     * Converts a given {@code AddressBookChange} into this class for Jackson use.
+     */
+    public JsonAdaptedChange(AddressBookChange source) {
+        assert source.getType() != AddressBookChange.Type.RESET;
+        type = source.getType().name();
+        target = source.getTarget() != null ? new JsonAdaptedPerson(source.getTarget()) : null;
+        person = source.getPerson() != null ? new JsonAdaptedPerson(source.getPerson()) : null;
+    }
+
+    /**
+     * Makes the recorded change to {@code addressBook}.
+     *
+     * @throws IllegalValueException if the record is invalid, or the change cannot be made to {@code addressBook}.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        try {
+            switch (parseType()) {
+            case ADD:
+                addressBook.addPerson(toPerson(person, "person"));
+                break;
+            case REMOVE:
+                addressBook.removePerson(toPerson(target, "target"));
+                break;
+            case SET:
+                addressBook.setPerson(toPerson(target, "target"), toPerson(person, "person"));
+                break;
+            default:
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_TYPE, type));
+            }
+        } catch (DuplicatePersonException | PersonNotFoundException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INAPPLICABLE_CHANGE, type, e.getMessage()));
+        }
+    }
+
+    private AddressBookChange.Type parseType() throws IllegalValueException {
+        try {
+            return AddressBookChange.Type.valueOf(String.valueOf(type));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_TYPE, type));
+        }
+    }
+
+    private Person toPerson(JsonAdaptedPerson adaptedPerson, String role) throws IllegalValueException {
+        if (adaptedPerson == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_PERSON, type, role));
+        }
+        return adaptedPerson.toModelType();
+    }
+}
@@ -1,10 +1,12 @@
 package seedu.address.storage;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.zip.Checksum;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -30,6 +32,10 @@ class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
+    // Bytes that never occur in UTF-8 text, to keep the fields apart in a checksum
+    private static final int END_OF_FIELD_MARKER = 0xFF;
+    private static final int NULL_FIELD_MARKER = 0xFE;
+
     private final String name;
     private final String phone;
     private final String email;
@@ -88,6 +94,30 @@ class JsonAdaptedPerson {
             .collect(Collectors.toList()));
     }
 
+    /**
+     * Adds every field of this person to {@code checksum}, in a fixed order.
+     */
+    public void updateChecksum(Checksum checksum) {
+        String[] fields = {name, phone, email, address, occupation, age, priority, incomeBracket, lastContactedDate};
+        for (String field : fields) {
+            updateChecksum(checksum, field);
+        }
+        checksum.update(tags.size());
+        for (JsonAdaptedTag tag : tags) {
+            updateChecksum(checksum, tag.getTagName());
+        }
+    }
+
+    private static void updateChecksum(Checksum checksum, String field) {
+        if (field == null) {
+            checksum.update(NULL_FIELD_MARKER);
+            return;
+        }
+        byte[] bytes = field.getBytes(StandardCharsets.UTF_8);
+        checksum.update(bytes, 0, bytes.length);
+        checksum.update(END_OF_FIELD_MARKER);
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
@@ -121,7 +151,7 @@ class JsonAdaptedPerson {
         if (!Email.isValidEmail(email)) {
             throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
         }
-        final Email modelEmail = new Email(email);
+        final Email modelEmail = Email.of(email);
 
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
@@ -129,28 +159,28 @@ class JsonAdaptedPerson {
         if (!Address.isValidAddress(address)) {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         }
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = Address.of(address);
 
         // Handle age field - default to empty if missing for backward compatibility
         Age modelAge;
         if (age == null) {
-            modelAge = new Age("");
+            modelAge = Age.EMPTY;
         } else {
             if (!Age.isValidAge(age)) {
                 throw new IllegalValueException(Age.MESSAGE_CONSTRAINTS);
             }
-            modelAge = new Age(age);
+            modelAge = Age.of(age);
         }
 
         // Handle priority field - default to NONE if missing for backward compatibility
         Priority modelPriority;
         if (priority == null) {
-            modelPriority = new Priority(Priority.Level.NONE);
+            modelPriority = Priority.of(Priority.Level.NONE);
         } else {
             if (!Priority.isValidPriority(priority)) {
                 throw new IllegalValueException(Priority.MESSAGE_CONSTRAINTS);
             }
-            modelPriority = new Priority(priority);
+            modelPriority = Priority.of(priority);
         }
 
         // Handle income bracket field - can be null
@@ -159,11 +189,11 @@ class JsonAdaptedPerson {
             try {
                 // First try to parse as enum name (e.g., "LOW", "MIDDLE", "HIGH")
                 IncomeBracket.Level level = IncomeBracket.Level.valueOf(incomeBracket.toUpperCase());
-                modelIncomeBracket = new IncomeBracket(level);
+                modelIncomeBracket = IncomeBracket.of(level);
             } catch (IllegalArgumentException e) {
                 // Fallback: try to parse as user-friendly string (e.g., "low", "middle", "high")
                 if (IncomeBracket.isValidIncomeBracket(incomeBracket)) {
-                    modelIncomeBracket = new IncomeBracket(incomeBracket);
+                    modelIncomeBracket = IncomeBracket.of(incomeBracket);
                 } else {
                     throw new IllegalValueException(IncomeBracket.MESSAGE_CONSTRAINTS);
                 }
@@ -173,16 +203,16 @@ class JsonAdaptedPerson {
         // Handle lastContactedDate field - default to empty string ("") if missing/null for backward compatibility
         LastContactedDate modelLastContactedDate;
         if (lastContactedDate == null) {
-            modelLastContactedDate = new LastContactedDate("");
+            modelLastContactedDate = LastContactedDate.EMPTY;
         } else {
             if (!LastContactedDate.isValidLastContactedDate(lastContactedDate)) {
                 throw new IllegalValueException(LastContactedDate.MESSAGE_CONSTRAINTS);
             }
-            modelLastContactedDate = new LastContactedDate(lastContactedDate);
+            modelLastContactedDate = LastContactedDate.of(lastContactedDate);
         }
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
-        Occupation modelOccupation = new Occupation(occupation == null ? "" : occupation);
+        Occupation modelOccupation = occupation == null ? Occupation.EMPTY : Occupation.of(occupation);
         return new Person(modelName, modelPhone, modelEmail, modelAddress, modelOccupation, modelTags, modelPriority,
         modelAge, modelIncomeBracket, modelLastContactedDate);
     }
@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonValue;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.tag.DncTag;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagDictionary;
 
 /**
  * Jackson-friendly version of {@link Tag}.
@@ -47,9 +48,9 @@ class JsonAdaptedTag {
 
         String normalisedTagName = tagName.trim().replaceAll("\\s+", " ");
         if (DncTag.DNC_TAG_NAME.equalsIgnoreCase(normalisedTagName)) {
-            return new DncTag();
+            return TagDictionary.getDncTag();
         }
-        return new Tag(tagName);
+        return TagDictionary.of(tagName);
     }
 
 }
@@ -3,6 +3,8 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -11,7 +13,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.FileUtil.ContentWriter;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -19,18 +21,46 @@ import seedu.address.model.ReadOnlyAddressBook;
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
+    private final boolean isCompressed;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage that writes the json file without indentation if {@code isCompact} is true.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, false);
+    }
+
+    /**
+     * Creates a storage that writes the json file without indentation if {@code isCompact} is true, and compresses
+     * it with GZIP if {@code isCompressed} is true.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, boolean isCompressed) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.isCompressed = isCompressed;
     }
 
     public Path getAddressBookFilePath() {
         return filePath;
     }
 
+    /**
+     * Returns the location where the previous version of the data at {@code filePath} is kept.
+     */
+    public static Path getBackupFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
         return readAddressBook(filePath);
@@ -38,6 +68,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * The file is read and converted one person at a time. A file in any of the other formats, or a compressed file,
+     * is read as well.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,20 +77,32 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        Optional<ReadOnlyAddressBook> shardedAddressBook = ShardedAddressBookStorage.readIfManifest(filePath);
+        if (shardedAddressBook.isPresent()) {
+            return shardedAddressBook;
+        }
+
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return Optional.of(AddressBookFileReader.read(in));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from json file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    @Override
+    public Optional<ReadOnlyAddressBook> readBackupAddressBook() throws DataLoadingException {
+        return readAddressBook(getBackupFilePath(filePath));
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -66,6 +110,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is written one person at a time and replaced atomically, and its previous version is kept as a backup.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +118,9 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        ContentWriter contentWriter = out -> JsonAddressBookStreams.write(addressBook, out, isCompact);
+        FileUtil.writeToFile(filePath, getBackupFilePath(filePath),
+                isCompressed ? FileUtil.compressed(contentWriter) : contentWriter);
     }
 
 }
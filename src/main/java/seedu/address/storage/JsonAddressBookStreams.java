@@ -0,0 +1,94 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads and writes address books in the JSON format of {@link JsonSerializableAddressBook}, one person at a time.
+ * Only one {@link JsonAdaptedPerson} is held at any time, instead of the whole file as a string and a
+ * {@code JsonSerializableAddressBook} of every person.
+ */
+final class JsonAddressBookStreams {
+
+    private static final String PERSONS_FIELD = "persons";
+    private static final String CHECKSUM_FIELD = "checksum";
+
+    private JsonAddressBookStreams() {}
+
+    /**
+     * Reads an address book from {@code in}. Fields other than the persons and their checksum are ignored.
+     * Persons are converted to the model's persons in parallel as the rest of the file is parsed.
+     *
+     * @throws IOException if {@code in} could not be read, or does not hold an address book in JSON format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an address book object");
+            }
+
+            ParallelPersonConverter converter = new ParallelPersonConverter();
+            CRC32 crc = new CRC32();
+            Long checksum = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (PERSONS_FIELD.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        JsonAdaptedPerson person = JsonUtil.readValue(parser, JsonAdaptedPerson.class);
+                        person.updateChecksum(crc);
+                        converter.add(person);
+                    }
+                } else if (CHECKSUM_FIELD.equals(fieldName) && valueToken == JsonToken.VALUE_NUMBER_INT) {
+                    checksum = parser.getLongValue();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            List<Person> persons = converter.finish();
+            if (checksum != null && checksum != crc.getValue()) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_CHECKSUM_MISMATCH);
+            }
+            return JsonSerializableAddressBook.toAddressBook(persons);
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}, followed by the checksum of its persons.
+     * Does not close {@code out}.
+     *
+     * @param isCompact if true, the output is not indented.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out, boolean isCompact) throws IOException {
+        CRC32 crc = new CRC32();
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, isCompact)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(PERSONS_FIELD);
+            for (Person person : addressBook.getPersonList()) {
+                JsonAdaptedPerson adaptedPerson = new JsonAdaptedPerson(person);
+                adaptedPerson.updateChecksum(crc);
+                JsonUtil.writeValue(generator, adaptedPerson);
+            }
+            generator.writeEndArray();
+            generator.writeNumberField(CHECKSUM_FIELD, crc.getValue());
+            generator.writeEndObject();
+        }
+    }
+}
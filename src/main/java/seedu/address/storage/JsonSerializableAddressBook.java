@@ -2,16 +2,22 @@ package seedu.address.storage;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
+import java.util.zip.CRC32;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIdentityValidator;
+import seedu.address.model.person.PersonIdentityValidator.IdentityCollision;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -20,15 +26,24 @@ import seedu.address.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Persons list does not match its checksum. If the data file"
+            + " was edited by hand, delete its checksum.";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonSerializableAddressBook.class);
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    // CRC32 of the persons, to detect damage to the data file; files written before it was added have none
+    private final Long checksum;
 
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given persons.
+     * Constructs a {@code JsonSerializableAddressBook} with the given persons and their {@code checksum},
+     * which may be null.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
+            @JsonProperty("checksum") Long checksum) {
         this.persons.addAll(persons);
+        this.checksum = checksum;
     }
 
     /**
@@ -38,21 +53,43 @@ class JsonSerializableAddressBook {
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        checksum = checksumOf(persons);
+    }
+
+    private static long checksumOf(List<JsonAdaptedPerson> persons) {
+        CRC32 crc = new CRC32();
+        persons.forEach(person -> person.updateChecksum(crc));
+        return crc.getValue();
     }
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * The persons are converted in parallel, see {@link ParallelPersonConverter}.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        if (checksum != null && checksum != checksumOf(persons)) {
+            throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+
+        return toAddressBook(ParallelPersonConverter.convertAll(persons));
+    }
+
+    /**
+     * Returns an address book of {@code modelPersons}, in the same order.
+     *
+     * @throws IllegalValueException if two of the persons have the same identity.
+     */
+    static AddressBook toAddressBook(List<Person> modelPersons) throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+        try {
+            // setPersons validates the persons, so the collisions are only looked for to report them
+            addressBook.setPersons(modelPersons);
+        } catch (DuplicatePersonException e) {
+            List<IdentityCollision> collisions = PersonIdentityValidator.findCollisions(modelPersons);
+            collisions.forEach(collision -> logger.warning("Duplicate person in data file: " + collision));
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
         }
         return addressBook;
     }
@@ -0,0 +1,100 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * One shard of an address book stored by {@link ShardedAddressBookStorage}, serializable to JSON format.
+ * Every person comes with its sequence number, which orders the persons of all shards.
+ */
+class JsonSerializableAddressBookShard {
+
+    public static final String MESSAGE_SEQUENCES_MISMATCH = "Shard does not have one sequence number per person.";
+    public static final String MESSAGE_SEQUENCES_UNORDERED = "Shard sequence numbers are not in ascending order.";
+
+    private final List<Long> sequences = new ArrayList<>();
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    // CRC32 of the persons, as in JsonSerializableAddressBook
+    private final Long checksum;
+
+    /**
+     * Constructs a {@code JsonSerializableAddressBookShard} with the given persons, their sequence numbers and
+     * their {@code checksum}, which may be null.
+     */
+    @JsonCreator
+    public JsonSerializableAddressBookShard(@JsonProperty("sequences") List<Long> sequences,
+            @JsonProperty("persons") List<JsonAdaptedPerson> persons, @JsonProperty("checksum") Long checksum) {
+        if (sequences != null) {
+            this.sequences.addAll(sequences);
+        }
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+        this.checksum = checksum;
+    }
+
+    /**
+     * Converts the persons in {@code sequencesByPerson} into this class for Jackson use, ordered by their sequence
+     * numbers.
+     */
+    public JsonSerializableAddressBookShard(Map<Person, Long> sequencesByPerson) {
+        CRC32 crc = new CRC32();
+        sequencesByPerson.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue(Comparator.naturalOrder()))
+                .forEachOrdered(entry -> {
+                    JsonAdaptedPerson person = new JsonAdaptedPerson(entry.getKey());
+                    person.updateChecksum(crc);
+                    sequences.add(entry.getValue());
+                    persons.add(person);
+                });
+        checksum = crc.getValue();
+    }
+
+    /**
+     * Returns the sequence numbers of the persons, in ascending order.
+     *
+     * @throws IllegalValueException if there is not one sequence number per person, or they are not in order.
+     */
+    public List<Long> getSequences() throws IllegalValueException {
+        if (sequences.size() != persons.size()) {
+            throw new IllegalValueException(MESSAGE_SEQUENCES_MISMATCH);
+        }
+        for (int i = 1; i < sequences.size(); i++) {
+            if (sequences.get(i) <= sequences.get(i - 1)) {
+                throw new IllegalValueException(MESSAGE_SEQUENCES_UNORDERED);
+            }
+        }
+        return sequences;
+    }
+
+    /**
+     * Converts the persons of this shard into the model's {@code Person} objects, in the same order.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public List<Person> toModelType() throws IllegalValueException {
+        if (checksum != null) {
+            CRC32 crc = new CRC32();
+            persons.forEach(person -> person.updateChecksum(crc));
+            if (checksum != crc.getValue()) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_CHECKSUM_MISMATCH);
+            }
+        }
+
+        List<Person> modelPersons = new ArrayList<>(persons.size());
+        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
+            modelPersons.add(jsonAdaptedPerson.toModelType());
+        }
+        return modelPersons;
+    }
+
+}
@@ -0,0 +1,104 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Converts {@code JsonAdaptedPerson}s into the model's {@code Person}s on the common fork-join pool, in chunks of
+ * {@value #CHUNK_SIZE}, while more persons are still being added.
+ * The persons come out in the order they were added, and if several of them are invalid, the error reported is
+ * always that of the first invalid person in that order, as if they had been converted one by one.
+ *
+ * A converter is meant to be used by a single thread, and only once.
+ */
+class ParallelPersonConverter {
+
+    static final int CHUNK_SIZE = 1024;
+
+    private final List<Chunk> chunks = new ArrayList<>();
+    private List<JsonAdaptedPerson> pendingPersons = new ArrayList<>(CHUNK_SIZE);
+    private int personCount;
+
+    /**
+     * Returns the model's persons converted from {@code jsonAdaptedPersons}, in the same order.
+     *
+     * @throws IllegalValueException if any of the persons violates a data constraint.
+     */
+    static List<Person> convertAll(List<JsonAdaptedPerson> jsonAdaptedPersons) throws IllegalValueException {
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+        jsonAdaptedPersons.forEach(converter::add);
+        return converter.finish();
+    }
+
+    /**
+     * Adds {@code jsonAdaptedPerson} to be converted after every person added before it.
+     */
+    void add(JsonAdaptedPerson jsonAdaptedPerson) {
+        requireNonNull(jsonAdaptedPerson);
+        pendingPersons.add(jsonAdaptedPerson);
+        personCount++;
+        if (pendingPersons.size() == CHUNK_SIZE) {
+            Chunk chunk = new Chunk(pendingPersons);
+            chunk.fork();
+            chunks.add(chunk);
+            pendingPersons = new ArrayList<>(CHUNK_SIZE);
+        }
+    }
+
+    /**
+     * Waits for every added person to be converted, and returns them in the order they were added.
+     * The last, partly filled chunk is converted on the calling thread, so that a small number of persons is
+     * converted without handing them to the pool at all.
+     *
+     * @throws IllegalValueException if any of the persons violates a data constraint.
+     */
+    List<Person> finish() throws IllegalValueException {
+        Chunk lastChunk = new Chunk(pendingPersons);
+        lastChunk.invoke();
+        chunks.add(lastChunk);
+
+        List<Person> persons = new ArrayList<>(personCount);
+        for (int i = 0; i < chunks.size(); i++) {
+            Chunk chunk = chunks.get(i);
+            chunk.join();
+            if (chunk.error != null) {
+                chunks.subList(i + 1, chunks.size()).forEach(laterChunk -> laterChunk.cancel(false));
+                throw chunk.error;
+            }
+            persons.addAll(chunk.persons);
+        }
+        return persons;
+    }
+
+    /**
+     * Converts a chunk of persons in order, stopping at the first invalid one.
+     */
+    private static class Chunk extends RecursiveAction {
+
+        private final List<JsonAdaptedPerson> jsonAdaptedPersons;
+        private final List<Person> persons;
+        private IllegalValueException error;
+
+        Chunk(List<JsonAdaptedPerson> jsonAdaptedPersons) {
+            this.jsonAdaptedPersons = jsonAdaptedPersons;
+            this.persons = new ArrayList<>(jsonAdaptedPersons.size());
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                for (JsonAdaptedPerson jsonAdaptedPerson : jsonAdaptedPersons) {
+                    persons.add(jsonAdaptedPerson.toModelType());
+                }
+            } catch (IllegalValueException ive) {
+                error = ive;
+            }
+        }
+    }
+}
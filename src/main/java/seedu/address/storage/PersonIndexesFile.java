@@ -0,0 +1,139 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.person.PersonIndexes;
+
+/**
+ * Reads and writes the {@link PersonIndexes} of an address book in a binary file.
+ *
+ * The file starts with {@link #MAGIC} and the format version, followed by the number of persons indexed and the
+ * fingerprint of the persons, then the trigram postings and the tag postings, and a CRC32 of everything before it.
+ * Each set of postings is written as its number of keys, then each key with its number of positions and the gaps
+ * between successive positions. Numbers are written as varints, as in {@link BinaryAddressBookStreams}.
+ *
+ * Any change to the layout must come with a new {@link #FORMAT_VERSION}.
+ */
+final class PersonIndexesFile {
+
+    static final byte[] MAGIC = {'I', 'B', 'I', 'X'};
+    static final int FORMAT_VERSION = 1;
+
+    static final String MESSAGE_NOT_INDEX = "Not an address book index file";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported address book index version %d";
+    static final String MESSAGE_CORRUPTED = "Address book index file is corrupted";
+
+    private static final int MAX_INITIAL_CAPACITY = 1 << 16;
+
+    private PersonIndexesFile() {}
+
+    /**
+     * Reads the indexes in the file at {@code filePath}.
+     *
+     * @throws IOException if the file could not be read, or does not hold indexes in this format.
+     */
+    static PersonIndexes read(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            CRC32 crc = new CRC32();
+            DataInputStream data = new DataInputStream(new CheckedInputStream(in, crc));
+
+            byte[] magic = new byte[MAGIC.length];
+            data.readFully(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IOException(MESSAGE_NOT_INDEX);
+            }
+            int version = BinaryAddressBookStreams.readVarInt(data);
+            if (version != FORMAT_VERSION) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            int personCount = BinaryAddressBookStreams.readVarInt(data);
+            long fingerprint = data.readLong();
+            Map<String, int[]> trigramPostings = readPostings(data, personCount);
+            Map<String, int[]> tagPostings = readPostings(data, personCount);
+
+            int expectedChecksum = (int) crc.getValue();
+            if (new DataInputStream(in).readInt() != expectedChecksum || in.read() != -1) {
+                throw new IOException(MESSAGE_CORRUPTED);
+            }
+            return new PersonIndexes(personCount, fingerprint, trigramPostings, tagPostings);
+        }
+    }
+
+    /**
+     * Writes {@code indexes} to the file at {@code filePath}, replacing it atomically.
+     */
+    static void write(Path filePath, PersonIndexes indexes) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(indexes);
+
+        FileUtil.writeToFile(filePath, null, out -> {
+            CRC32 crc = new CRC32();
+            DataOutputStream data = new DataOutputStream(new CheckedOutputStream(out, crc));
+            data.write(MAGIC);
+            BinaryAddressBookStreams.writeVarInt(data, FORMAT_VERSION);
+            BinaryAddressBookStreams.writeVarInt(data, indexes.getPersonCount());
+            data.writeLong(indexes.getFingerprint());
+            writePostings(data, indexes.getTrigramPostings());
+            writePostings(data, indexes.getTagPostings());
+            data.flush();
+
+            new DataOutputStream(out).writeInt((int) crc.getValue());
+        });
+    }
+
+    private static Map<String, int[]> readPostings(DataInputStream in, int personCount) throws IOException {
+        int keyCount = BinaryAddressBookStreams.readVarInt(in);
+        Map<String, int[]> postings = new HashMap<>(Math.min(keyCount, MAX_INITIAL_CAPACITY) * 4 / 3 + 1);
+        for (int i = 0; i < keyCount; i++) {
+            String key = BinaryAddressBookStreams.readString(in);
+            int size = BinaryAddressBookStreams.readVarInt(in);
+            if (size > personCount) {
+                throw new IOException(MESSAGE_CORRUPTED);
+            }
+            int[] positions = new int[size];
+            int position = -1;
+            for (int j = 0; j < size; j++) {
+                // gaps are at least one, so the positions come out in ascending order
+                position += BinaryAddressBookStreams.readVarInt(in) + 1;
+                if (position < 0 || position >= personCount) {
+                    throw new IOException(MESSAGE_CORRUPTED);
+                }
+                positions[j] = position;
+            }
+            postings.put(key, positions);
+        }
+        return postings;
+    }
+
+    private static void writePostings(DataOutputStream out, Map<String, int[]> postings) throws IOException {
+        BinaryAddressBookStreams.writeVarInt(out, postings.size());
+        for (Map.Entry<String, int[]> entry : postings.entrySet()) {
+            BinaryAddressBookStreams.writeString(out, entry.getKey());
+            int[] positions = entry.getValue();
+            BinaryAddressBookStreams.writeVarInt(out, positions.length);
+            int previousPosition = -1;
+            for (int position : positions) {
+                BinaryAddressBookStreams.writeVarInt(out, position - previousPosition - 1);
+                previousPosition = position;
+            }
+        }
+    }
+}
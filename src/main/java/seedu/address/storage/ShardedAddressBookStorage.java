@@ -0,0 +1,591 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data spread over several json shard files, listed by a manifest file.
+ *
+ * Each person is kept in the shard picked by a stable hash of its identity (name and phone), together with a
+ * sequence number that records its place in the address book, so the shards can be read in parallel and merged
+ * back into the original order. Saving only rewrites the shards whose persons changed since the last save or read,
+ * using the changes recorded by the address book when they are known.
+ *
+ * The manifest lives at the address book file path, and the shards next to it, each named after the manifest, its
+ * index and the generation in which it was written. A save writes its shards under new names before replacing the
+ * manifest, so the manifest always lists a complete and consistent set of shards, even if a save is interrupted.
+ * The previous manifest is kept as a backup, and the shards it lists are only deleted by the save after next.
+ *
+ * A data file in any other format is read as well, and kept as the backup when the first manifest replaces it, so
+ * switching to this format keeps the existing data.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_SHARD_COUNT = 16;
+    public static final String SHARD_FILE_INFIX = ".shard-";
+    public static final int MANIFEST_VERSION = 1;
+
+    // New persons are numbered this far apart, so that persons later put between them can be numbered in the gap
+    static final long SEQUENCE_GAP = 1 << 16;
+
+    static final String MESSAGE_MISSING_SHARD = "Shard file %s listed by the manifest does not exist";
+    static final String MESSAGE_DUPLICATE_SEQUENCE = "Two shards hold persons with the same sequence number";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported shard manifest version %d";
+    static final String MESSAGE_MANIFEST_NOT_ADDRESS_BOOK =
+            "File is the manifest of a sharded address book, which can only be read in the sharded format";
+
+    // Every manifest starts with this, as it is written compactly with its version first
+    static final byte[] MANIFEST_PREFIX = "{\"shardManifestVersion\"".getBytes(StandardCharsets.UTF_8);
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int shardCount;
+
+    // The persons in each shard as last saved or read, with their sequence numbers; null if not known
+    private List<Map<Person, Long>> shards;
+    private List<String> shardFileNames;
+    // The shard files listed by the backup manifest; null if not known
+    private List<String> backupShardFileNames;
+    private long generation;
+    private long nextSequence;
+    // The origin of the address book last saved, and its version at the time
+    private Object savedOrigin;
+    private long savedVersion;
+
+    public ShardedAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_SHARD_COUNT);
+    }
+
+    /**
+     * Creates a storage that spreads the persons over {@code shardCount} shards.
+     */
+    public ShardedAddressBookStorage(Path filePath, int shardCount) {
+        requireNonNull(filePath);
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("There must be at least one shard");
+        }
+        this.filePath = filePath;
+        this.shardCount = shardCount;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns true if {@code header}, the first bytes of a file, starts like a shard manifest.
+     */
+    static boolean isManifestHeader(byte[] header) {
+        return header.length >= MANIFEST_PREFIX.length
+                && Arrays.equals(header, 0, MANIFEST_PREFIX.length, MANIFEST_PREFIX, 0, MANIFEST_PREFIX.length);
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} exists and starts like a shard manifest.
+     */
+    static boolean isManifestFile(Path filePath) {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return isManifestHeader(in.readNBytes(MANIFEST_PREFIX.length));
+        } catch (IOException ioe) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the address book whose manifest is at {@code filePath} if the file there is a shard manifest, or an
+     * empty Optional otherwise. Lets the storages of the other formats read a data file last written in this one.
+     *
+     * @throws DataLoadingException if the manifest or any of its shards could not be read.
+     */
+    static Optional<ReadOnlyAddressBook> readIfManifest(Path filePath) throws DataLoadingException {
+        return isManifestFile(filePath) ? new ShardedAddressBookStorage(filePath).readAddressBook() : Optional.empty();
+    }
+
+    /**
+     * Returns the index of the shard that holds {@code person} when there are {@code shardCount} shards.
+     * Only depends on the person's identity, and is the same on every run and every machine.
+     */
+    static int shardOf(Person person, int shardCount) {
+        CRC32 crc = new CRC32();
+        crc.update(person.getName().fullName.getBytes(StandardCharsets.UTF_8));
+        crc.update(0);
+        crc.update(person.getPhone().value.getBytes(StandardCharsets.UTF_8));
+        return (int) (crc.getValue() % shardCount);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}. The shards are read in parallel.
+     * A file that is not a manifest is read in whichever format it was written.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataLoadingException if the manifest or any of its shards could not be read.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (Files.exists(filePath) && !isManifestFile(filePath)) {
+            return Optional.of(readOtherFormat(filePath));
+        }
+        Optional<JsonShardManifest> manifest = JsonUtil.readJsonFile(filePath, JsonShardManifest.class);
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+        if (manifest.get().shardManifestVersion != MANIFEST_VERSION) {
+            throw new DataLoadingException(new IOException(
+                    String.format(MESSAGE_UNSUPPORTED_VERSION, manifest.get().shardManifestVersion)));
+        }
+
+        List<ShardReader> readers = new ArrayList<>();
+        for (String shardFileName : manifest.get().shardFiles) {
+            readers.add(new ShardReader(filePath.resolveSibling(shardFileName)));
+        }
+        ForkJoinTask.invokeAll(readers);
+        for (ShardReader reader : readers) {
+            if (reader.error != null) {
+                logger.warning("Error reading shard " + reader.shardFilePath + ": " + reader.error);
+                throw new DataLoadingException(reader.error);
+            }
+        }
+
+        ReadOnlyAddressBook addressBook;
+        try {
+            addressBook = JsonSerializableAddressBook.toAddressBook(merge(readers));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            rememberShards(manifest.get(), readers);
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Reads the data file at {@code filePath}, which is not a manifest, e.g. because the data file format was just
+     * switched to this one. The next save to it then writes every shard.
+     */
+    private ReadOnlyAddressBook readOtherFormat(Path filePath) throws DataLoadingException {
+        ReadOnlyAddressBook addressBook;
+        try (InputStream in = Files.newInputStream(filePath)) {
+            addressBook = AddressBookFileReader.read(in);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from data file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            shards = null;
+            shardFileNames = List.of();
+            savedOrigin = null;
+        }
+        return addressBook;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readBackupAddressBook() throws DataLoadingException {
+        return readAddressBook(JsonAddressBookStorage.getBackupFilePath(filePath));
+    }
+
+    /**
+     * Merges the persons of every shard into a single list, in the order of their sequence numbers.
+     *
+     * @throws IllegalValueException if two persons have the same sequence number.
+     */
+    private static List<Person> merge(List<ShardReader> readers) throws IllegalValueException {
+        int personCount = readers.stream().mapToInt(reader -> reader.persons.size()).sum();
+        List<Person> persons = new ArrayList<>(personCount);
+        // each entry is a shard index and a position within that shard, ordered by the sequence number there
+        PriorityQueue<int[]> cursors = new PriorityQueue<>(Math.max(1, readers.size()), (first, second) ->
+                Long.compare(readers.get(first[0]).sequences.get(first[1]),
+                        readers.get(second[0]).sequences.get(second[1])));
+        for (int i = 0; i < readers.size(); i++) {
+            if (!readers.get(i).persons.isEmpty()) {
+                cursors.add(new int[] {i, 0});
+            }
+        }
+
+        long previousSequence = Long.MIN_VALUE;
+        while (!cursors.isEmpty()) {
+            int[] cursor = cursors.remove();
+            ShardReader reader = readers.get(cursor[0]);
+            long sequence = reader.sequences.get(cursor[1]);
+            if (sequence == previousSequence) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_SEQUENCE);
+            }
+            previousSequence = sequence;
+            persons.add(reader.persons.get(cursor[1]));
+            if (++cursor[1] < reader.persons.size()) {
+                cursors.add(cursor);
+            }
+        }
+        return persons;
+    }
+
+    /**
+     * Remembers the shards just read as the saved state, so that the next save only rewrites the shards that
+     * change. A manifest with a different number of shards is instead rewritten in full by the next save.
+     */
+    private void rememberShards(JsonShardManifest manifest, List<ShardReader> readers) {
+        generation = manifest.generation;
+        nextSequence = manifest.nextSequence;
+        shardFileNames = new ArrayList<>(manifest.shardFiles);
+        savedOrigin = null;
+        if (readers.size() != shardCount) {
+            shards = null;
+            return;
+        }
+
+        shards = new ArrayList<>(shardCount);
+        for (ShardReader reader : readers) {
+            Map<Person, Long> shard = new HashMap<>();
+            for (int i = 0; i < reader.persons.size(); i++) {
+                shard.put(reader.persons.get(i), reader.sequences.get(i));
+                nextSequence = Math.max(nextSequence, reader.sequences.get(i) + SEQUENCE_GAP);
+            }
+            shards.add(shard);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        boolean isSavedAddressBook = savedOrigin != null && addressBook.getOrigin() == savedOrigin;
+        Optional<List<AddressBookChange>> changes = shards != null && isSavedAddressBook
+                ? addressBook.getChangesSince(savedVersion)
+                : Optional.empty();
+        long version = addressBook.getVersion();
+        savedOrigin = null;
+        try {
+            boolean[] dirtyShards = changes.isPresent() ? applyChanges(changes.get()) : null;
+            if (dirtyShards == null) {
+                dirtyShards = compareShards(addressBook.getPersonList());
+            }
+            writeShards(dirtyShards);
+        } catch (IOException | RuntimeException e) {
+            // what the shards on disk hold is no longer known, so the next save rewrites all of them
+            shards = null;
+            throw e;
+        }
+        savedOrigin = addressBook.getOrigin();
+        savedVersion = version;
+    }
+
+    /**
+     * Writes the whole of {@code addressBook} as a new set of shards at {@code filePath}.
+     * Saving to the default file path only rewrites the shards that changed, as in
+     * {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        new ShardedAddressBookStorage(filePath, shardCount).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Applies {@code changes} to the saved shards, giving added persons new sequence numbers and edited persons
+     * the sequence numbers of the persons they replace.
+     *
+     * @return the shards that changed, or null if the changes cannot be applied one by one.
+     */
+    private boolean[] applyChanges(List<AddressBookChange> changes) {
+        if (changes.stream().anyMatch(change -> change.getType() == AddressBookChange.Type.RESET)) {
+            return null;
+        }
+
+        boolean[] dirtyShards = new boolean[shardCount];
+        for (AddressBookChange change : changes) {
+            Long sequence;
+            if (change.getType() == AddressBookChange.Type.ADD) {
+                sequence = takeNextSequence();
+            } else {
+                int targetShard = shardOf(change.getTarget(), shardCount);
+                sequence = shards.get(targetShard).remove(change.getTarget());
+                if (sequence == null) {
+                    // the changes do not match the saved shards after all
+                    shards = null;
+                    return null;
+                }
+                dirtyShards[targetShard] = true;
+            }
+            if (change.getType() != AddressBookChange.Type.REMOVE) {
+                int shard = shardOf(change.getPerson(), shardCount);
+                shards.get(shard).put(change.getPerson(), sequence);
+                dirtyShards[shard] = true;
+            }
+        }
+        return dirtyShards;
+    }
+
+    /**
+     * Replaces the saved shards with the shards of {@code persons}, keeping the sequence number of every person
+     * that is still in the same order relative to the others.
+     * Persons that are new or were edited are numbered in the gap between their neighbours, so that the persons
+     * after them keep their numbers and their shards are left alone.
+     *
+     * @return the shards that changed.
+     */
+    private boolean[] compareShards(List<Person> persons) {
+        long[] sequences = new long[persons.size()];
+        long previousSequence = -1;
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            Long sequence = shards == null ? null : shards.get(shardOf(person, shardCount)).get(person);
+            // -1 marks a person that needs a new sequence number
+            sequences[i] = sequence == null || sequence <= previousSequence ? -1 : sequence;
+            previousSequence = Math.max(previousSequence, sequences[i]);
+        }
+        numberNewPersons(sequences);
+
+        List<Map<Person, Long>> newShards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            newShards.add(new HashMap<>());
+        }
+        boolean[] dirtyShards = new boolean[shardCount];
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            int shard = shardOf(person, shardCount);
+            if (shards == null || !Long.valueOf(sequences[i]).equals(shards.get(shard).get(person))) {
+                dirtyShards[shard] = true;
+            }
+            newShards.get(shard).put(person, sequences[i]);
+        }
+
+        for (int i = 0; i < shardCount; i++) {
+            // no person was added to or moved within this shard, so it only changed if persons left it
+            dirtyShards[i] |= shards == null || shards.get(i).size() != newShards.get(i).size();
+        }
+        shards = newShards;
+        return dirtyShards;
+    }
+
+    /**
+     * Fills in every run of -1 in {@code sequences} with numbers spread evenly between the numbers around it.
+     * A run that does not fit in its gap, and every number after it, is numbered afresh instead.
+     */
+    private void numberNewPersons(long[] sequences) {
+        int i = 0;
+        while (i < sequences.length) {
+            if (sequences[i] != -1) {
+                i++;
+                continue;
+            }
+            int runEnd = i;
+            while (runEnd < sequences.length && sequences[runEnd] == -1) {
+                runEnd++;
+            }
+            long low = i == 0 ? -1 : sequences[i - 1];
+            long high = runEnd == sequences.length ? Long.MAX_VALUE : sequences[runEnd];
+            long step = (high - low) / (runEnd - i + 1);
+            if (runEnd == sequences.length || step == 0) {
+                for (int j = i; j < sequences.length; j++) {
+                    sequences[j] = takeNextSequence();
+                }
+                return;
+            }
+            for (int j = i; j < runEnd; j++) {
+                sequences[j] = low + step * (j - i + 1);
+            }
+            i = runEnd;
+        }
+    }
+
+    /**
+     * Returns a sequence number after every one given out so far.
+     */
+    private long takeNextSequence() {
+        long sequence = nextSequence;
+        nextSequence += SEQUENCE_GAP;
+        return sequence;
+    }
+
+    /**
+     * Writes the changed shards under new names, then a manifest that lists them, keeping the previous manifest as
+     * the backup. Then deletes the shards that the manifest it replaced as the backup listed, unless they are still
+     * in use.
+     */
+    private void writeShards(boolean[] dirtyShards) throws IOException {
+        List<String> oldShardFileNames = shardFileNames;
+        if (oldShardFileNames == null || oldShardFileNames.size() != shardCount) {
+            // nothing is known about the shards on disk, so all of them are replaced, and the new ones must not
+            // take the names of the ones still listed by the current manifest
+            oldShardFileNames = readShardFileNamesOnDisk(filePath);
+            Arrays.fill(dirtyShards, true);
+        }
+        if (!containsTrue(dirtyShards)) {
+            return;
+        }
+        Path backupFilePath = JsonAddressBookStorage.getBackupFilePath(filePath);
+        if (backupShardFileNames == null) {
+            backupShardFileNames = readShardFileNamesOnDisk(backupFilePath);
+        }
+
+        long newGeneration = generation + 1;
+        List<String> newShardFileNames = new ArrayList<>(Collections.nCopies(shardCount, (String) null));
+        for (int i = 0; i < shardCount; i++) {
+            if (!dirtyShards[i] && i < oldShardFileNames.size()) {
+                newShardFileNames.set(i, oldShardFileNames.get(i));
+                continue;
+            }
+            String shardFileName = filePath.getFileName() + SHARD_FILE_INFIX + i + "." + newGeneration;
+            FileUtil.writeToFile(filePath.resolveSibling(shardFileName),
+                    JsonUtil.toCompactJsonString(new JsonSerializableAddressBookShard(shards.get(i))));
+            newShardFileNames.set(i, shardFileName);
+        }
+
+        boolean isReplacingBackup = Files.exists(filePath);
+        FileUtil.writeToFile(filePath, JsonUtil.toCompactJsonString(
+                new JsonShardManifest(MANIFEST_VERSION, newGeneration, nextSequence, newShardFileNames)),
+                backupFilePath);
+        generation = newGeneration;
+        shardFileNames = newShardFileNames;
+        if (!isReplacingBackup) {
+            return;
+        }
+
+        List<String> replacedShardFileNames = new ArrayList<>(backupShardFileNames);
+        replacedShardFileNames.removeAll(oldShardFileNames);
+        replacedShardFileNames.removeAll(newShardFileNames);
+        backupShardFileNames = oldShardFileNames;
+        for (String replacedShardFileName : replacedShardFileNames) {
+            try {
+                Files.deleteIfExists(filePath.resolveSibling(replacedShardFileName));
+            } catch (IOException ioe) {
+                logger.warning("Could not delete replaced shard " + replacedShardFileName + ": " + ioe);
+            }
+        }
+    }
+
+    /**
+     * Returns the shard files listed by the manifest at {@code manifestPath}, and moves the generation past that of
+     * the manifest. Returns an empty list if there is no manifest there.
+     */
+    private List<String> readShardFileNamesOnDisk(Path manifestPath) {
+        if (!isManifestFile(manifestPath)) {
+            return List.of();
+        }
+        try {
+            Optional<JsonShardManifest> manifest = JsonUtil.readJsonFile(manifestPath, JsonShardManifest.class);
+            if (manifest.isPresent()) {
+                generation = Math.max(generation, manifest.get().generation);
+                return manifest.get().shardFiles;
+            }
+        } catch (DataLoadingException e) {
+            logger.warning("Could not read the shard manifest " + manifestPath + " before replacing it: " + e);
+        }
+        return List.of();
+    }
+
+    private static boolean containsTrue(boolean[] values) {
+        for (boolean value : values) {
+            if (value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads and converts a single shard.
+     */
+    private static class ShardReader extends RecursiveAction {
+
+        private final Path shardFilePath;
+        private List<Long> sequences = List.of();
+        private List<Person> persons = List.of();
+        private Exception error;
+
+        ShardReader(Path shardFilePath) {
+            this.shardFilePath = shardFilePath;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                Optional<JsonSerializableAddressBookShard> shard =
+                        JsonUtil.readJsonFile(shardFilePath, JsonSerializableAddressBookShard.class);
+                if (!shard.isPresent()) {
+                    throw new NoSuchFileException(String.format(MESSAGE_MISSING_SHARD, shardFilePath));
+                }
+                sequences = shard.get().getSequences();
+                persons = shard.get().toModelType();
+            } catch (DataLoadingException | IOException | IllegalValueException e) {
+                error = e;
+            }
+        }
+    }
+
+    /**
+     * The list of shard files, stored at the address book file path.
+     */
+    @JsonPropertyOrder({"shardManifestVersion", "generation", "nextSequence", "shardFiles"})
+    private static class JsonShardManifest {
+        private final int shardManifestVersion;
+        private final long generation;
+        private final long nextSequence;
+        private final List<String> shardFiles = new ArrayList<>();
+
+        @JsonCreator
+        JsonShardManifest(@JsonProperty("shardManifestVersion") int shardManifestVersion,
+                @JsonProperty("generation") long generation, @JsonProperty("nextSequence") long nextSequence,
+                @JsonProperty("shardFiles") List<String> shardFiles) {
+            this.shardManifestVersion = shardManifestVersion;
+            this.generation = generation;
+            this.nextSequence = nextSequence;
+            if (shardFiles != null) {
+                this.shardFiles.addAll(shardFiles);
+            }
+        }
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -29,4 +30,20 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Sets the handler to be given the failure of any address book save that completes in the background,
+     * after {@link #saveAddressBook(ReadOnlyAddressBook)} has returned.
+     * Storage that saves before returning reports failures by throwing instead, and never calls the handler.
+     */
+    default void setSaveErrorHandler(Consumer<IOException> errorHandler) {}
+
+    /**
+     * Waits until every address book save requested so far has been written, then writes whatever the address book
+     * storage has held back from them.
+     *
+     * @throws IOException if the last of those saves failed.
+     */
+    @Override
+    default void flushAddressBook() throws IOException {}
+
 }
@@ -2,7 +2,9 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -19,13 +21,26 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    // Saves the address book to its default file path in the background; null if saves are made before returning
+    private final BackgroundAddressBookSaver backgroundSaver;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, false);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * If {@code saveInBackground} is true, {@link #saveAddressBook(ReadOnlyAddressBook)} only takes a snapshot of
+     * the address book, and returns without waiting for it to be written.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            boolean saveInBackground) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.backgroundSaver = saveInBackground ? new BackgroundAddressBookSaver(addressBookStorage) : null;
     }
 
     // ================ UserPrefs methods ==============================
@@ -64,9 +79,26 @@ public class StorageManager implements Storage {
         return addressBookStorage.readAddressBook(filePath);
     }
 
+    @Override
+    public List<String> getReadWarnings() {
+        return addressBookStorage.getReadWarnings();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readBackupAddressBook() throws DataLoadingException {
+        logger.fine("Attempting to read backup data of file: " + addressBookStorage.getAddressBookFilePath());
+        return addressBookStorage.readBackupAddressBook();
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        if (backgroundSaver == null) {
+            saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+            return;
+        }
+
+        logger.fine("Queueing write to data file: " + addressBookStorage.getAddressBookFilePath());
+        backgroundSaver.save(addressBook.snapshot());
     }
 
     @Override
@@ -75,4 +107,19 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void setSaveErrorHandler(Consumer<IOException> errorHandler) {
+        if (backgroundSaver != null) {
+            backgroundSaver.setErrorHandler(errorHandler);
+        }
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        if (backgroundSaver != null) {
+            backgroundSaver.flush();
+        }
+        addressBookStorage.flushAddressBook();
+    }
+
 }
@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -23,13 +24,23 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/insurabook.png";
 
     private Logic logic;
+    private List<String> startupMessages;
     private MainWindow mainWindow;
 
     /**
      * Creates a {@code UiManager} with the given {@code Logic}.
      */
     public UiManager(Logic logic) {
+        this(logic, List.of());
+    }
+
+    /**
+     * Creates a {@code UiManager} with the given {@code Logic}, that shows {@code startupMessages} to the user once
+     * the main window is shown.
+     */
+    public UiManager(Logic logic, List<String> startupMessages) {
         this.logic = logic;
+        this.startupMessages = List.copyOf(startupMessages);
     }
 
     @Override
@@ -43,6 +54,9 @@ public class UiManager implements Ui {
             mainWindow = new MainWindow(primaryStage, logic);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
+            if (!startupMessages.isEmpty()) {
+                mainWindow.showFeedbackToUser(String.join("\n", startupMessages));
+            }
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
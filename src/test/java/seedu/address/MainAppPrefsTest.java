@@ -3,9 +3,12 @@ package seedu.address;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.lang.reflect.Method;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 
@@ -108,6 +111,27 @@ public class MainAppPrefsTest {
                 "When storage throws, MainApp should start with an empty AddressBook.");
     }
 
+    // ---------- Case 4: data file damaged -> start with the backup kept by the last save ----------
+    @Test
+    public void initModelManager_damagedFileWithBackup_loadsBackup() throws Exception {
+        Path abPath = tempDir.resolve("addressbook.json");
+        AddressBookStorage abStorage = new JsonAddressBookStorage(abPath);
+        AddressBook addressBook = getTypicalAddressBook();
+        abStorage.saveAddressBook(addressBook);
+        AddressBook newerAddressBook = new AddressBook(addressBook);
+        newerAddressBook.addPerson(HOON);
+        abStorage.saveAddressBook(newerAddressBook);
+        Files.writeString(abPath, "{\"persons\": [ {\"name\": \"Ali");
+
+        UserPrefs prefs = new UserPrefs();
+        prefs.setAddressBookFilePath(abPath);
+        Storage storage = new StorageManager(abStorage, new JsonUserPrefsStorage(tempDir.resolve("prefs.json")));
+
+        Model model = invokeInitModelManager(new MainApp(), storage, prefs);
+
+        assertEquals(addressBook, new AddressBook(model.getAddressBook()));
+    }
+
     // ---------- Helper Storage that always throws when reading the address book ----------
     private static class ThrowingStorage implements Storage {
 
@@ -1,13 +1,22 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +29,30 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_missingParentDirectory_createsFile() throws Exception {
+        Path file = testFolder.resolve("missing").resolve("file.txt");
+        FileUtil.writeToFile(file, "content");
+        assertEquals("content", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeToFile_withBackup_keepsOldContent() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        Path backupFile = testFolder.resolve("file.txt.bak");
+
+        FileUtil.writeToFile(file, "first", backupFile);
+        assertFalse(Files.exists(backupFile));
+
+        FileUtil.writeToFile(file, "second", backupFile);
+        FileUtil.writeToFile(file, "third", backupFile);
+        assertEquals("third", FileUtil.readFromFile(file));
+        assertEquals("second", FileUtil.readFromFile(backupFile));
+
+        // only the file and its backup are left behind
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(2, files.count());
+        }
+    }
+
 }
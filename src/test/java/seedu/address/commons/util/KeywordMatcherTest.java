@@ -0,0 +1,94 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+public class KeywordMatcherTest {
+
+    @Test
+    public void constructor_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new KeywordMatcher(null));
+    }
+
+    @Test
+    public void occursInLowerCase_nullText_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new KeywordMatcher(Arrays.asList("abc")).occursInLowerCase(null));
+    }
+
+    @Test
+    public void occursInLowerCase_noKeywords_returnsFalse() {
+        KeywordMatcher matcher = new KeywordMatcher(Collections.emptyList());
+        assertFalse(matcher.occursInLowerCase(""));
+        assertFalse(matcher.occursInLowerCase("alice"));
+    }
+
+    @Test
+    public void occursInLowerCase_mixedCaseKeywords_matchesIgnoringCase() {
+        KeywordMatcher matcher = new KeywordMatcher(Arrays.asList("  ALIce ", "bOB"));
+        assertTrue(matcher.occursInLowerCase("alice pauline"));
+        assertTrue(matcher.occursInLowerCase("uncle bob"));
+        assertFalse(matcher.occursInLowerCase("carol"));
+    }
+
+    @Test
+    public void compile_mixedCaseKeywords_matchesIgnoringCase() {
+        Predicate<String> matcher = KeywordMatcher.compile(Arrays.asList("  ALIce ", "bOB"));
+        assertTrue(matcher.test("alice pauline"));
+        assertTrue(matcher.test("uncle bob"));
+        assertFalse(matcher.test("carol"));
+
+        assertFalse(KeywordMatcher.compile(Collections.emptyList()).test("alice"));
+        assertTrue(KeywordMatcher.compile(Arrays.asList("bob", " ")).test("alice"));
+    }
+
+    @Test
+    public void occursInLowerCase_keywordFoundOnlyThroughFailureLink_returnsTrue() {
+        // "she" must be found after the scan has gone down the "her" branch of the automaton
+        KeywordMatcher matcher = new KeywordMatcher(Arrays.asList("hers", "she", "his"));
+        assertTrue(matcher.occursInLowerCase("ushe"));
+        assertTrue(matcher.occursInLowerCase("hhis"));
+        assertFalse(matcher.occursInLowerCase("her"));
+
+        // a keyword that is a suffix of a partially matched longer keyword
+        matcher = new KeywordMatcher(Arrays.asList("abcd", "bc"));
+        assertTrue(matcher.occursInLowerCase("abcx"));
+    }
+
+    @Test
+    public void occursInLowerCase_randomTexts_agreesWithContains() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            List<String> keywords = new ArrayList<>();
+            for (int i = random.nextInt(6); i >= 0; i--) {
+                keywords.add(randomText(random, 1 + random.nextInt(4)));
+            }
+            KeywordMatcher matcher = new KeywordMatcher(keywords);
+            Predicate<String> compiledMatcher = KeywordMatcher.compile(keywords);
+            for (int i = 0; i < 20; i++) {
+                String text = randomText(random, random.nextInt(12));
+                boolean expected = keywords.stream().anyMatch(text::contains);
+                assertEquals(expected, matcher.occursInLowerCase(text), keywords + " in " + text);
+                assertEquals(expected, compiledMatcher.test(text), keywords + " in " + text);
+            }
+        }
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append((char) ('a' + random.nextInt(3)));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Priority;
+import seedu.address.model.person.SegmentFilter;
+import seedu.address.model.tag.TagDictionary;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FilterCommand}.
+ */
+public class FilterCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FilterCommand highPriorityCommand = new FilterCommand(SegmentFilter.priority(Priority.Level.HIGH));
+        FilterCommand dncCommand = new FilterCommand(SegmentFilter.dnc());
+
+        // same object -> returns true
+        assertTrue(highPriorityCommand.equals(highPriorityCommand));
+
+        // same values -> returns true
+        assertTrue(highPriorityCommand.equals(new FilterCommand(SegmentFilter.priority(Priority.Level.HIGH))));
+
+        // different types -> returns false
+        assertFalse(highPriorityCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(highPriorityCommand.equals(null));
+
+        // different filter -> returns false
+        assertFalse(highPriorityCommand.equals(dncCommand));
+    }
+
+    @Test
+    public void execute_segment_listsPersonsInSegment() {
+        SegmentFilter filter = SegmentFilter.or(List.of(
+                SegmentFilter.and(List.of(SegmentFilter.priority(Priority.Level.MEDIUM),
+                        SegmentFilter.not(SegmentFilter.tag(TagDictionary.of("owesMoney"))))),
+                SegmentFilter.tag(TagDictionary.of("owesMoney"))));
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        expectedModel.updateFilteredPersonList(filter);
+        assertCommandSuccess(new FilterCommand(filter), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_noPersonInSegment_noPersonFound() {
+        SegmentFilter filter = SegmentFilter.dnc();
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        expectedModel.updateFilteredPersonList(filter);
+        assertCommandSuccess(new FilterCommand(filter), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_personsEditedAfterFilter_filterFollowsSegment() {
+        new FilterCommand(SegmentFilter.priority(Priority.Level.HIGH)).execute(model);
+        assertEquals(Arrays.asList(ALICE, DANIEL), model.getFilteredPersonList());
+
+        // a person edited into the segment appears, and one edited out of it disappears
+        Person highPriorityCarl = new PersonBuilder(CARL).withPriority("HIGH").build();
+        model.setPerson(CARL, highPriorityCarl);
+        model.setPerson(ALICE, new PersonBuilder(ALICE).withPriority("LOW").build());
+        assertEquals(Arrays.asList(highPriorityCarl, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        SegmentFilter filter = SegmentFilter.dnc();
+        FilterCommand filterCommand = new FilterCommand(filter);
+        String expected = FilterCommand.class.getCanonicalName() + "{filter=" + filter + "}";
+        assertEquals(expected, filterCommand.toString());
+    }
+}
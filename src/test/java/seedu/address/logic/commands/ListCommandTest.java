@@ -5,14 +5,21 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.AgeRange;
+import seedu.address.model.person.LastContactedDateRange;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListCommand.
@@ -67,6 +74,42 @@ public class ListCommandTest {
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_lastContactedDateRange_showsPersonsInRange() {
+        LastContactedDateRange range = LastContactedDateRange.before(LocalDate.of(2025, 10, 22));
+        String expectedMessage = String.format(ListCommand.MESSAGE_SUCCESS_FILTERED,
+                getTypicalAddressBook().getPersonList().size(), range.getDescription());
+        expectedModel.updateFilteredPersonList(range);
+        assertCommandSuccess(new ListCommand(range), model, expectedMessage, expectedModel);
+
+        LastContactedDateRange never = LastContactedDateRange.never();
+        expectedModel.updateFilteredPersonList(never);
+        assertCommandSuccess(new ListCommand(never), model,
+                String.format(ListCommand.MESSAGE_SUCCESS_FILTERED, 0, never.getDescription()), expectedModel);
+    }
+
+    @Test
+    public void execute_ageRange_showsPersonsInRange() {
+        AgeRange range = new AgeRange(20, 30);
+        expectedModel.updateFilteredPersonList(range);
+        String expectedMessage = String.format(ListCommand.MESSAGE_SUCCESS_FILTERED,
+                expectedModel.getFilteredPersonList().size(), range.getDescription());
+        assertCommandSuccess(new ListCommand(range), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_personEditedAfterAgeRange_filterFollowsRange() {
+        AgeRange range = new AgeRange(20, 30);
+        new ListCommand(range).execute(model);
+        assertTrue(model.getFilteredPersonList().contains(ALICE));
+
+        Person olderAlice = new PersonBuilder(ALICE).withAge("40").build();
+        model.setPerson(ALICE, olderAlice);
+        assertFalse(model.getFilteredPersonList().contains(olderAlice));
+        model.setPerson(olderAlice, ALICE);
+        assertTrue(model.getFilteredPersonList().contains(ALICE));
+    }
+
     @Test
     public void equals() {
         ListCommand listCommand = new ListCommand();
@@ -99,5 +142,13 @@ public class ListCommandTest {
 
         // no sorting vs with sorting -> returns false
         assertFalse(listCommand.equals(listCommandPriorityAsc));
+
+        // different last contacted date range -> returns false
+        ListCommand listCommandNever = new ListCommand(LastContactedDateRange.never());
+        assertTrue(listCommandNever.equals(new ListCommand(LastContactedDateRange.never())));
+        assertFalse(listCommandNever.equals(listCommand));
+        assertTrue(new ListCommand(new AgeRange(30, 45)).equals(new ListCommand(new AgeRange(30, 45))));
+        assertFalse(new ListCommand(new AgeRange(30, 45)).equals(new ListCommand(new AgeRange(30, 46))));
+        assertFalse(listCommandNever.equals(new ListCommand(LastContactedDateRange.after(LocalDate.of(2025, 1, 1)))));
     }
 }
@@ -0,0 +1,74 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.model.person.AgeRange;
+import seedu.address.model.person.IncomeBracket;
+import seedu.address.model.person.Priority;
+import seedu.address.model.person.SegmentFilter;
+import seedu.address.model.tag.TagDictionary;
+
+public class FilterCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE);
+
+    private static final SegmentFilter HIGH_PRIORITY = SegmentFilter.priority(Priority.Level.HIGH);
+    private static final SegmentFilter HIGH_INCOME = SegmentFilter.incomeBracket(IncomeBracket.Level.HIGH);
+    private static final SegmentFilter THIRTIES = SegmentFilter.age(new AgeRange(30, 39));
+    private static final SegmentFilter DNC = SegmentFilter.dnc();
+
+    private FilterCommandParser parser = new FilterCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_singleClause_returnsFilterCommand() {
+        assertParseSuccess(parser, " pr/high", new FilterCommand(HIGH_PRIORITY));
+        assertParseSuccess(parser, " I/High", new FilterCommand(HIGH_INCOME));
+        assertParseSuccess(parser, " age/30-39", new FilterCommand(THIRTIES));
+        assertParseSuccess(parser, " t/friends", new FilterCommand(SegmentFilter.tag(TagDictionary.of("friends"))));
+        assertParseSuccess(parser, " DNC", new FilterCommand(DNC));
+    }
+
+    @Test
+    public void parse_operators_followPrecedence() {
+        // AND before OR
+        assertParseSuccess(parser, " pr/high or i/high and not dnc", new FilterCommand(SegmentFilter.or(List.of(
+                HIGH_PRIORITY, SegmentFilter.and(List.of(HIGH_INCOME, SegmentFilter.not(DNC)))))));
+
+        // brackets, and AND between clauses without an operator
+        assertParseSuccess(parser, " (pr/high OR i/high) age/30-39 NOT dnc", new FilterCommand(SegmentFilter.and(
+                List.of(SegmentFilter.or(List.of(HIGH_PRIORITY, HIGH_INCOME)), THIRTIES, SegmentFilter.not(DNC)))));
+
+        // nested negation and brackets without spaces
+        assertParseSuccess(parser, " not (not dnc)", new FilterCommand(SegmentFilter.not(SegmentFilter.not(DNC))));
+        assertParseSuccess(parser, " ((dnc))", new FilterCommand(DNC));
+    }
+
+    @Test
+    public void parse_invalidExpression_throwsParseException() {
+        assertParseFailure(parser, " pr/high and", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " or pr/high", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " (pr/high", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " pr/high)", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " alice", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidClauseValue_throwsParseException() {
+        assertParseFailure(parser, " pr/urgent", Priority.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " i/rich", IncomeBracket.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " age/45-30", AgeRange.MESSAGE_CONSTRAINTS);
+    }
+}
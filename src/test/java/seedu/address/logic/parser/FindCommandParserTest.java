@@ -5,11 +5,18 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.person.AgeRange;
 import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.PersonQuery.TextField;
+import seedu.address.model.person.Priority;
+import seedu.address.model.person.SegmentFilter;
+import seedu.address.model.tag.TagDictionary;
 
 public class FindCommandParserTest {
 
@@ -31,4 +38,45 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fieldClauses_returnsFindCommand() {
+        PersonQuery teacher = PersonQuery.fieldContains(TextField.OCCUPATION, "teacher");
+        PersonQuery hot = PersonQuery.tag(TagDictionary.of("hot"));
+        PersonQuery notDnc = PersonQuery.not(PersonQuery.segment(SegmentFilter.dnc()));
+        assertParseSuccess(parser, "o/teacher t/hot -dnc",
+                new FindCommand(PersonQuery.and(List.of(teacher, hot, notDnc))));
+
+        // clauses on the same field are combined with OR, and unscoped keywords come first
+        PersonQuery names = PersonQuery.or(List.of(PersonQuery.fieldContains(TextField.NAME, "alice"),
+                PersonQuery.fieldContains(TextField.NAME, "bob")));
+        assertParseSuccess(parser, "n/Alice street N/bob",
+                new FindCommand(PersonQuery.and(List.of(
+                        PersonQuery.anyField(new PersonContainsKeywordsPredicate(List.of("street"))), names))));
+
+        // a single clause
+        assertParseSuccess(parser, "pr/high",
+                new FindCommand(PersonQuery.segment(SegmentFilter.priority(Priority.Level.HIGH))));
+
+        // negated clauses and keywords
+        assertParseSuccess(parser, "-age/30-45 -alex",
+                new FindCommand(PersonQuery.and(List.of(
+                        PersonQuery.not(PersonQuery.segment(SegmentFilter.age(new AgeRange(30, 45)))),
+                        PersonQuery.not(PersonQuery.anyField(
+                                new PersonContainsKeywordsPredicate(List.of("alex"))))))));
+
+        // dnc without a dash, and a lone dash, are plain keywords
+        assertParseSuccess(parser, "dnc -",
+                new FindCommand(new PersonContainsKeywordsPredicate(List.of("dnc", "-"))));
+    }
+
+    @Test
+    public void parse_invalidClause_throwsParseException() {
+        // empty value
+        assertParseFailure(parser, "o/ teacher",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+
+        // invalid values
+        assertParseFailure(parser, "pr/urgent", Priority.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "-age/45-30", AgeRange.MESSAGE_CONSTRAINTS);
+    }
 }
@@ -6,10 +6,14 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.person.AgeRange;
+import seedu.address.model.person.LastContactedDateRange;
 
 public class ListCommandParserTest {
 
@@ -61,6 +65,42 @@ public class ListCommandParserTest {
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
     }
 
+    @Test
+    public void parse_lastContactedDateRange_returnsListCommand() {
+        assertParseSuccess(parser, " lc/never", new ListCommand(LastContactedDateRange.never()));
+        assertParseSuccess(parser, " lc/Before 2025-01-01",
+                new ListCommand(LastContactedDateRange.before(LocalDate.of(2025, 1, 1))));
+        assertParseSuccess(parser, " lc/after 2025-01-01",
+                new ListCommand(LastContactedDateRange.after(LocalDate.of(2025, 1, 1))));
+        assertParseSuccess(parser, " lc/2025-01-01 to 2025-03-31",
+                new ListCommand(LastContactedDateRange.between(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 31))));
+    }
+
+    @Test
+    public void parse_invalidLastContactedDateRange_throwsParseException() {
+        assertParseFailure(parser, " lc/2025-01-01", LastContactedDateRange.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " lc/before 2025-02-30", LastContactedDateRange.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " lc/2025-03-31 to 2025-01-01", LastContactedDateRange.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " lc/never pr/asc",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_ageRange_returnsListCommand() {
+        assertParseSuccess(parser, " age/30-45", new ListCommand(new AgeRange(30, 45)));
+        assertParseSuccess(parser, " age/ 30 - 45 ", new ListCommand(new AgeRange(30, 45)));
+        assertParseSuccess(parser, " age/30", new ListCommand(new AgeRange(30, 30)));
+    }
+
+    @Test
+    public void parse_invalidAgeRange_throwsParseException() {
+        assertParseFailure(parser, " age/45-30", AgeRange.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " age/5-30", AgeRange.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " age/30-", AgeRange.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " age/30-45 lc/never",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_bothPrefixes_throwsParseException() {
         assertParseFailure(parser, " pr/asc i/desc",
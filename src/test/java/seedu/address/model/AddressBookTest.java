@@ -2,17 +2,21 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -103,6 +107,163 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPersonWithPhone(differentNameSamePhone));
     }
 
+    @Test
+    public void hasOtherPersonWithPhone_onlyExcludedPersonHasPhone_returnsFalse() {
+        addressBook.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Different Name").build();
+        assertFalse(addressBook.hasOtherPersonWithPhone(ALICE, editedAlice));
+    }
+
+    @Test
+    public void hasOtherPersonWithPhone_anotherPersonHasPhone_returnsTrue() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(BOB.getPhone().value).build();
+        assertTrue(addressBook.hasOtherPersonWithPhone(ALICE, editedAlice));
+    }
+
+    @Test
+    public void hasOtherPersonWithName_anotherPersonHasName_returnsTrue() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withName(BOB.getName().fullName).build();
+        assertTrue(addressBook.hasOtherPersonWithName(ALICE, editedAlice));
+        assertFalse(addressBook.hasOtherPersonWithName(ALICE, ALICE));
+    }
+
+    @Test
+    public void getChangesSince_afterMutations_returnsChangesInOrder() {
+        addressBook.addPerson(ALICE);
+        long version = addressBook.getVersion();
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.addPerson(BENSON);
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.removePerson(BENSON);
+
+        assertEquals(version + 3, addressBook.getVersion());
+        assertEquals(Optional.of(List.of(AddressBookChange.added(version + 1, BENSON),
+                AddressBookChange.replaced(version + 2, ALICE, editedAlice),
+                AddressBookChange.removed(version + 3, BENSON))), addressBook.getChangesSince(version));
+        assertEquals(Optional.of(List.of()), addressBook.getChangesSince(addressBook.getVersion()));
+        assertEquals(Optional.empty(), addressBook.getChangesSince(addressBook.getVersion() + 1));
+    }
+
+    @Test
+    public void getChangesSince_failedMutation_recordsNothing() {
+        addressBook.addPerson(ALICE);
+        long version = addressBook.getVersion();
+        assertThrows(DuplicatePersonException.class, () -> addressBook.addPerson(ALICE));
+        assertEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void getChangesSince_resetData_recordsReset() {
+        long version = addressBook.getVersion();
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(Optional.of(List.of(AddressBookChange.reset(version + 1))), addressBook.getChangesSince(version));
+    }
+
+    @Test
+    public void getChangesSince_resetDataFromAddressBook_recordsCopyOfItsOrigin() {
+        AddressBook source = getTypicalAddressBook();
+        long version = addressBook.getVersion();
+        addressBook.resetData(source.snapshot());
+
+        AddressBookChange change = addressBook.getChangesSince(version).get().get(0);
+        assertTrue(change.isCopyOf(source.getOrigin(), source.getVersion()));
+        assertFalse(change.isCopyOf(new AddressBook(source).getOrigin(), source.getVersion()));
+        assertFalse(change.isCopyOf(source.getOrigin(), source.getVersion() + 1));
+    }
+
+    @Test
+    public void getChangesSince_resetDataWithoutOrigin_recordsPlainReset() {
+        long version = addressBook.getVersion();
+        addressBook.resetData(new AddressBookStub(List.of(ALICE)));
+
+        AddressBookChange change = addressBook.getChangesSince(version).get().get(0);
+        assertEquals(AddressBookChange.reset(version + 1), change);
+        assertFalse(change.isCopyOf(null, 0));
+    }
+
+    @Test
+    public void getChangesSince_forgottenChanges_returnsEmpty() {
+        for (int i = 0; i < 1001; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i)
+                    .withPhone(String.valueOf(10000000 + i)).withEmail("person" + i + "@example.com").build());
+        }
+        assertEquals(Optional.empty(), addressBook.getChangesSince(0));
+        assertEquals(1000, addressBook.getChangesSince(1).get().size());
+    }
+
+    @Test
+    public void snapshot_laterChanges_notReflected() {
+        addressBook.addPerson(ALICE);
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+        long version = addressBook.getVersion();
+        addressBook.addPerson(BENSON);
+
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+        assertEquals(version, snapshot.getVersion());
+        assertEquals(addressBook.getChangesSince(version - 1).map(changes -> changes.subList(0, 1)),
+                snapshot.getChangesSince(version - 1));
+        assertSame(addressBook.getOrigin(), snapshot.getOrigin());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+
+    @Test
+    public void snapshot_unchangedAddressBook_returnsSameSnapshot() {
+        addressBook.addPerson(ALICE);
+        assertSame(addressBook.snapshot(), addressBook.snapshot());
+    }
+
+    @Test
+    public void snapshot_changesSinceEarlierSnapshots_matchesAddressBook() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        ReadOnlyAddressBook firstSnapshot = addressBook.snapshot();
+
+        addressBook.addPerson(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        ReadOnlyAddressBook secondSnapshot = addressBook.snapshot();
+        addressBook.removePerson(BENSON);
+        addressBook.addPerson(BENSON);
+        addressBook.removePerson(BOB);
+        ReadOnlyAddressBook thirdSnapshot = addressBook.snapshot();
+
+        // the second snapshot is never read, so the third is worked out through it
+        assertEquals(List.of(editedAlice, BENSON), thirdSnapshot.getPersonList());
+        assertEquals(List.of(editedAlice, BENSON, BOB), secondSnapshot.getPersonList());
+        assertEquals(List.of(ALICE, BENSON), firstSnapshot.getPersonList());
+        assertEquals(addressBook.getChangesSince(0), thirdSnapshot.getChangesSince(0));
+    }
+
+    @Test
+    public void snapshot_resetDataSinceEarlierSnapshot_matchesAddressBook() {
+        addressBook.addPerson(ALICE);
+        addressBook.snapshot();
+        addressBook.resetData(getTypicalAddressBook());
+        addressBook.addPerson(BOB);
+
+        assertEquals(addressBook.getPersonList(), addressBook.snapshot().getPersonList());
+    }
+
+    @Test
+    public void snapshot_manyChangesSinceEarlierSnapshot_matchesAddressBook() {
+        addressBook.snapshot();
+        for (int i = 0; i < 2500; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i)
+                    .withPhone(String.valueOf(10000000 + i)).withEmail("person" + i + "@example.com").build());
+            if (i % 3 == 0) {
+                addressBook.snapshot();
+            }
+        }
+
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+        assertEquals(addressBook.getPersonList(), snapshot.getPersonList());
+        assertEquals(addressBook.getChangesSince(1500), snapshot.getChangesSince(1500));
+        assertEquals(Optional.empty(), snapshot.getChangesSince(1499));
+    }
 
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
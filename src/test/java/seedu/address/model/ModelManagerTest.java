@@ -88,6 +88,18 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void getAddressBookVersion_changesOnlyWithAddressBook() {
+        long version = modelManager.getAddressBookVersion();
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.hasPerson(ALICE);
+        assertEquals(version, modelManager.getAddressBookVersion());
+
+        modelManager.addPerson(ALICE);
+        modelManager.deletePerson(ALICE);
+        assertEquals(version + 2, modelManager.getAddressBookVersion());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
@@ -1,9 +1,14 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.AddressBookFileFormat;
+
 public class UserPrefsTest {
 
     @Test
@@ -18,4 +23,35 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setCompactAddressBookFile_copiedAndCompared() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertFalse(userPrefs.isCompactAddressBookFile());
+
+        userPrefs.setCompactAddressBookFile(true);
+        assertNotEquals(new UserPrefs(), userPrefs);
+        assertEquals(userPrefs, new UserPrefs(userPrefs));
+    }
+
+    @Test
+    public void setCompressedAddressBookFile_copiedAndCompared() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertFalse(userPrefs.isCompressedAddressBookFile());
+
+        userPrefs.setCompressedAddressBookFile(true);
+        assertNotEquals(new UserPrefs(), userPrefs);
+        assertEquals(userPrefs, new UserPrefs(userPrefs));
+    }
+
+    @Test
+    public void setAddressBookFileFormat_copiedAndCompared() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertEquals(AddressBookFileFormat.JSON, userPrefs.getAddressBookFileFormat());
+        assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFileFormat(null));
+
+        userPrefs.setAddressBookFileFormat(AddressBookFileFormat.BINARY);
+        assertNotEquals(new UserPrefs(), userPrefs);
+        assertEquals(userPrefs, new UserPrefs(userPrefs));
+    }
+
 }
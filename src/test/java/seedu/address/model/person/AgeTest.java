@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -164,5 +165,16 @@ public class AgeTest {
         assertEquals("10", new Age("010").toString());
         assertEquals("15", new Age("015").toString());
     }
-}
 
+    @Test
+    public void of_emptyValue_returnsSharedEmptyAge() {
+        assertSame(Age.EMPTY, Age.of(""));
+        assertEquals(new Age("25"), Age.of("25"));
+    }
+
+    @Test
+    public void years() {
+        assertEquals(45, new Age("045").years);
+        assertEquals(Age.NO_YEARS, Age.EMPTY.years);
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -216,4 +217,12 @@ public class IncomeBracketTest {
         // different values -> returns false
         assertFalse(none1.equals(low));
     }
+
+    @Test
+    public void of_sameLevel_returnsSharedInstance() {
+        assertSame(IncomeBracket.of(IncomeBracket.Level.HIGH), IncomeBracket.of(IncomeBracket.Level.HIGH));
+        assertSame(IncomeBracket.of(IncomeBracket.Level.MIDDLE), IncomeBracket.of(" Middle "));
+        assertSame(IncomeBracket.of(IncomeBracket.Level.LOW), IncomeBracket.fromString("low"));
+        assertThrows(IllegalArgumentException.class, () -> IncomeBracket.of("invalid"));
+    }
 }
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -133,4 +134,11 @@ public class LastContactedDateTest {
         LastContactedDate emptyDate2 = new LastContactedDate("");
         assertTrue(emptyDate1.equals(emptyDate2));
     }
+
+    @Test
+    public void epochDay() {
+        assertEquals(0, new LastContactedDate("1970-01-01").epochDay);
+        assertEquals(LocalDate.of(2024, 1, 15).toEpochDay(), new LastContactedDate("2024-01-15").epochDay);
+        assertEquals(LastContactedDate.NO_EPOCH_DAY, LastContactedDate.EMPTY.epochDay);
+    }
 }
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -138,4 +139,11 @@ public class OccupationTest {
         Occupation occupation = new Occupation("");
         assertEquals("", occupation.toString());
     }
+
+    @Test
+    public void of_blankValue_returnsSharedEmptyOccupation() {
+        assertSame(Occupation.EMPTY, Occupation.of(""));
+        assertSame(Occupation.EMPTY, Occupation.of("   "));
+        assertEquals(new Occupation("Teacher"), Occupation.of("Teacher"));
+    }
 }
@@ -4,12 +4,15 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.lang.management.ManagementFactory;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.sun.management.ThreadMXBean;
+
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonContainsKeywordsPredicateTest {
@@ -381,6 +384,33 @@ public class PersonContainsKeywordsPredicateTest {
                 .build()));
     }
 
+    @Test
+    public void test_manyPersons_allocatesNothingPerPerson() {
+        ThreadMXBean threadMxBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        PersonContainsKeywordsPredicate predicate =
+                new PersonContainsKeywordsPredicate(Arrays.asList("CAROL", "example.org", "colleagues", "2024-01"));
+        Person[] persons = new Person[1000];
+        for (int i = 0; i < persons.length; i++) {
+            persons[i] = new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(90000000 + i))
+                    .withTags("friends", i % 2 == 0 ? "colleagues" : "family").build();
+        }
+        int rounds = 100;
+
+        // warm up so that the measured loop runs compiled code
+        for (int i = 0; i < 20; i++) {
+            countMatches(predicate, persons, rounds);
+        }
+        long allocatedBefore = threadMxBean.getThreadAllocatedBytes(threadId);
+        int matches = countMatches(predicate, persons, rounds);
+        long allocated = threadMxBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        assertEquals(persons.length / 2 * rounds, matches);
+        // less than a byte per evaluation, which leaves room for the measurement itself but not for any object
+        assertTrue(allocated < persons.length * rounds,
+                "Allocated " + allocated + " bytes for " + persons.length * rounds + " evaluations");
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
@@ -389,4 +419,16 @@ public class PersonContainsKeywordsPredicateTest {
         String expected = PersonContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
         assertEquals(expected, predicate.toString());
     }
+
+    private static int countMatches(PersonContainsKeywordsPredicate predicate, Person[] persons, int rounds) {
+        int matches = 0;
+        for (int round = 0; round < rounds; round++) {
+            for (int i = 0; i < persons.length; i++) {
+                if (predicate.test(persons[i])) {
+                    matches++;
+                }
+            }
+        }
+        return matches;
+    }
 }
@@ -0,0 +1,61 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.PersonIdentityValidator.IdentityCollision;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonIdentityValidatorTest {
+
+    @Test
+    public void findCollisions_nullList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersonIdentityValidator.findCollisions(null));
+    }
+
+    @Test
+    public void findCollisions_uniquePersons_returnsEmptyList() {
+        assertTrue(PersonIdentityValidator.findCollisions(getTypicalPersons()).isEmpty());
+        assertTrue(PersonIdentityValidator.areUnique(getTypicalPersons()));
+    }
+
+    @Test
+    public void findCollisions_sameIdentityDifferentFields_reportsCollision() {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        List<IdentityCollision> collisions = PersonIdentityValidator.findCollisions(
+                Arrays.asList(ALICE, BOB, editedAlice));
+
+        assertEquals(List.of(new IdentityCollision(0, ALICE, 2, editedAlice)), collisions);
+        assertFalse(PersonIdentityValidator.areUnique(Arrays.asList(ALICE, BOB, editedAlice)));
+    }
+
+    @Test
+    public void findCollisions_nameDiffersOnlyInCase_reportsCollision() {
+        Person upperCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        assertEquals(1, PersonIdentityValidator.findCollisions(Arrays.asList(ALICE, upperCaseAlice)).size());
+    }
+
+    @Test
+    public void findCollisions_multipleGroups_reportsEveryPair() {
+        List<IdentityCollision> collisions = PersonIdentityValidator.findCollisions(
+                Arrays.asList(ALICE, BENSON, ALICE, BENSON, ALICE));
+
+        assertEquals(List.of(
+                new IdentityCollision(0, ALICE, 2, ALICE),
+                new IdentityCollision(1, BENSON, 3, BENSON),
+                new IdentityCollision(0, ALICE, 4, ALICE),
+                new IdentityCollision(2, ALICE, 4, ALICE)), collisions);
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonIndexesTest {
+
+    @Test
+    public void build_persons_postingsHoldPositions() {
+        PersonIndexes indexes = PersonIndexes.build(List.of(ALICE, BENSON, CARL));
+
+        assertEquals(3, indexes.getPersonCount());
+        assertArrayEquals(new int[] {0, 1}, indexes.getTagPostings().get("friends"));
+        assertArrayEquals(new int[] {1}, indexes.getTagPostings().get("owesMoney"));
+        assertNull(indexes.getTagPostings().get("colleagues"));
+        // only "Benson Meier" contains "mei"
+        assertArrayEquals(new int[] {1}, indexes.getTrigramPostings().get("mei"));
+        assertEquals(PersonIndexes.fingerprintOf(List.of(ALICE, BENSON, CARL)), indexes.getFingerprint());
+    }
+
+    @Test
+    public void fingerprintOf() {
+        long fingerprint = PersonIndexes.fingerprintOf(List.of(ALICE, BENSON));
+
+        // same persons in equal lists -> same fingerprint
+        assertEquals(fingerprint, PersonIndexes.fingerprintOf(List.of(new PersonBuilder(ALICE).build(),
+                new PersonBuilder(BENSON).build())));
+
+        // same tags given in a different order -> same fingerprint
+        assertEquals(PersonIndexes.fingerprintOf(List.of(new PersonBuilder(ALICE).withTags("a", "b").build())),
+                PersonIndexes.fingerprintOf(List.of(new PersonBuilder(ALICE).withTags("b", "a").build())));
+
+        // different order -> different fingerprint
+        assertNotEquals(fingerprint, PersonIndexes.fingerprintOf(List.of(BENSON, ALICE)));
+
+        // different field -> different fingerprint
+        assertNotEquals(fingerprint, PersonIndexes.fingerprintOf(List.of(
+                new PersonBuilder(ALICE).withOccupation("Doctor").build(), BENSON)));
+        assertNotEquals(fingerprint, PersonIndexes.fingerprintOf(List.of(
+                new PersonBuilder(ALICE).withPriority("LOW").build(), BENSON)));
+
+        // characters moved between fields -> different fingerprint
+        assertNotEquals(PersonIndexes.fingerprintOf(List.of(new PersonBuilder(ALICE).withAddress("ab")
+                        .withOccupation("c").build())),
+                PersonIndexes.fingerprintOf(List.of(new PersonBuilder(ALICE).withAddress("a")
+                        .withOccupation("bc").build())));
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.PersonQuery.TextField;
+import seedu.address.model.tag.DncTag;
+import seedu.address.model.tag.TagDictionary;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonQueryTest {
+
+    private static final PersonQuery FRIENDS = PersonQuery.tag(TagDictionary.of("friends"));
+    private static final PersonQuery HIGH_PRIORITY = PersonQuery.segment(SegmentFilter.priority(Priority.Level.HIGH));
+    private static final PersonQuery NOT_DNC = PersonQuery.not(PersonQuery.segment(SegmentFilter.dnc()));
+    private static final PersonQuery MEIER = PersonQuery.fieldContains(TextField.NAME, "Meier");
+
+    private static final List<PersonQuery> QUERIES = List.of(
+            FRIENDS,
+            MEIER,
+            PersonQuery.fieldContains(TextField.OCCUPATION, "teach"),
+            PersonQuery.fieldContains(TextField.EMAIL, "ex"),
+            PersonQuery.anyField(new PersonContainsKeywordsPredicate(List.of("street", "ave"))),
+            PersonQuery.and(List.of(FRIENDS, HIGH_PRIORITY, NOT_DNC)),
+            PersonQuery.and(List.of(MEIER, PersonQuery.not(FRIENDS))),
+            PersonQuery.and(List.of(PersonQuery.anyField(new PersonContainsKeywordsPredicate(List.of("st"))),
+                    PersonQuery.or(List.of(HIGH_PRIORITY, PersonQuery.fieldContains(TextField.PHONE, "948"))))),
+            PersonQuery.and(List.of(PersonQuery.or(List.of(MEIER, FRIENDS)), NOT_DNC)),
+            PersonQuery.or(List.of(PersonQuery.fieldContains(TextField.ADDRESS, "street"), NOT_DNC)));
+
+    @Test
+    public void constructors_invalidOperands_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> PersonQuery.and(List.of(FRIENDS)));
+        assertThrows(IllegalArgumentException.class, () -> PersonQuery.or(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> PersonQuery.fieldContains(TextField.NAME, " "));
+    }
+
+    @Test
+    public void test_fieldContains_matchesOnlyThatField() {
+        PersonQuery query = PersonQuery.fieldContains(TextField.OCCUPATION, "TEACHER");
+        assertTrue(query.test(CARL));
+        assertFalse(PersonQuery.fieldContains(TextField.NAME, "teacher").test(CARL));
+        assertFalse(query.test(ALICE));
+    }
+
+    @Test
+    public void planQuery_afterChanges_matchesTest() {
+        UniquePersonList persons = new UniquePersonList();
+        List<Person> typicalPersons = new ArrayList<>(getTypicalPersons());
+        typicalPersons.set(3, new PersonBuilder(DANIEL).withTags(DncTag.DNC_TAG_NAME, "friends").build());
+        persons.setPersons(typicalPersons);
+        assertPlansMatch(persons);
+
+        persons.remove(BENSON);
+        persons.add(new PersonBuilder(BOB).withName("Bob Meier").withPriority("HIGH").withTags("friends").build());
+        persons.setPerson(ALICE, new PersonBuilder(ALICE).withTags(DncTag.DNC_TAG_NAME).build());
+        persons.remove(ELLE);
+        assertPlansMatch(persons);
+    }
+
+    @Test
+    public void equals() {
+        PersonQuery query = PersonQuery.and(List.of(MEIER, FRIENDS));
+
+        assertTrue(query.equals(query));
+        assertTrue(query.equals(PersonQuery.and(List.of(PersonQuery.fieldContains(TextField.NAME, "meier"),
+                PersonQuery.tag(TagDictionary.of("friends"))))));
+        assertFalse(query.equals(null));
+        assertFalse(query.equals(1));
+        assertFalse(query.equals(PersonQuery.or(List.of(MEIER, FRIENDS))));
+        assertFalse(query.equals(PersonQuery.and(List.of(PersonQuery.fieldContains(TextField.ADDRESS, "meier"),
+                FRIENDS))));
+        assertFalse(query.equals(PersonQuery.not(query)));
+    }
+
+    private static void assertPlansMatch(UniquePersonList persons) {
+        for (PersonQuery query : QUERIES) {
+            List<Person> expected = persons.asUnmodifiableObservableList().stream()
+                    .filter(query)
+                    .collect(Collectors.toList());
+            Predicate<Person> plan = persons.planQuery(query);
+            List<Person> actual = persons.asUnmodifiableObservableList().stream()
+                    .filter(plan)
+                    .collect(Collectors.toList());
+            assertEquals(expected, actual, query.toString());
+        }
+    }
+}
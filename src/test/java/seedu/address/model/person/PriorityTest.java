@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -107,4 +108,12 @@ public class PriorityTest {
         // different priority -> different hash code (likely)
         assertFalse(priority1.hashCode() == priority3.hashCode());
     }
+
+    @Test
+    public void of_sameLevel_returnsSharedInstance() {
+        assertSame(Priority.of(Priority.Level.HIGH), Priority.of(Priority.Level.HIGH));
+        assertSame(Priority.of(Priority.Level.LOW), Priority.of("low"));
+        assertEquals(new Priority(Priority.Level.MEDIUM), Priority.of(Priority.Level.MEDIUM));
+        assertThrows(IllegalArgumentException.class, () -> Priority.of("INVALID"));
+    }
 }
@@ -0,0 +1,94 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.DncTag;
+import seedu.address.model.tag.TagDictionary;
+import seedu.address.testutil.PersonBuilder;
+
+public class SegmentFilterTest {
+
+    private static final SegmentFilter HIGH_PRIORITY = SegmentFilter.priority(Priority.Level.HIGH);
+    private static final SegmentFilter FRIENDS = SegmentFilter.tag(TagDictionary.of("friends"));
+    private static final SegmentFilter THIRTIES = SegmentFilter.age(new AgeRange(30, 39));
+
+    private static final List<SegmentFilter> FILTERS = List.of(
+            HIGH_PRIORITY,
+            SegmentFilter.incomeBracket(IncomeBracket.Level.NONE),
+            SegmentFilter.age(new AgeRange(25, 34)),
+            THIRTIES,
+            SegmentFilter.dnc(),
+            SegmentFilter.not(SegmentFilter.dnc()),
+            SegmentFilter.and(List.of(HIGH_PRIORITY, FRIENDS)),
+            SegmentFilter.and(List.of(FRIENDS, SegmentFilter.not(HIGH_PRIORITY), SegmentFilter.not(THIRTIES))),
+            SegmentFilter.and(List.of(SegmentFilter.not(FRIENDS), SegmentFilter.not(SegmentFilter.dnc()))),
+            SegmentFilter.or(List.of(THIRTIES, SegmentFilter.and(List.of(HIGH_PRIORITY, SegmentFilter.dnc())))));
+
+    @Test
+    public void and_tooFewOperands_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> SegmentFilter.and(List.of(HIGH_PRIORITY)));
+        assertThrows(IllegalArgumentException.class, () -> SegmentFilter.or(List.of()));
+    }
+
+    @Test
+    public void getPersonsInSegment_afterChanges_matchesTest() {
+        UniquePersonList persons = new UniquePersonList();
+        List<Person> typicalPersons = new ArrayList<>(getTypicalPersons());
+        typicalPersons.set(2, new PersonBuilder(CARL).withAge("33").build());
+        typicalPersons.set(3, new PersonBuilder(DANIEL).withTags(DncTag.DNC_TAG_NAME).build());
+        persons.setPersons(typicalPersons);
+        assertSegmentsMatch(persons);
+
+        persons.remove(BENSON);
+        persons.add(new PersonBuilder(BOB).withAge("38").withPriority("HIGH").build());
+        persons.setPerson(ALICE, new PersonBuilder(ALICE).withTags(DncTag.DNC_TAG_NAME).build());
+        persons.remove(ELLE);
+        assertSegmentsMatch(persons);
+    }
+
+    @Test
+    public void equals() {
+        SegmentFilter filter = SegmentFilter.and(List.of(HIGH_PRIORITY, FRIENDS));
+
+        assertTrue(filter.equals(filter));
+        assertTrue(filter.equals(SegmentFilter.and(List.of(SegmentFilter.priority(Priority.Level.HIGH),
+                SegmentFilter.tag(TagDictionary.of("friends"))))));
+        assertFalse(filter.equals(null));
+        assertFalse(filter.equals(1));
+        assertFalse(filter.equals(SegmentFilter.or(List.of(HIGH_PRIORITY, FRIENDS))));
+        assertFalse(filter.equals(SegmentFilter.and(List.of(FRIENDS, HIGH_PRIORITY))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        SegmentFilter filter = SegmentFilter.and(List.of(SegmentFilter.or(List.of(HIGH_PRIORITY, THIRTIES)),
+                SegmentFilter.not(SegmentFilter.dnc()), SegmentFilter.incomeBracket(IncomeBracket.Level.LOW)));
+        assertEquals("((pr/HIGH or age/30-39) and not dnc and i/LOW)", filter.toString());
+    }
+
+    private static void assertSegmentsMatch(UniquePersonList persons) {
+        for (SegmentFilter filter : FILTERS) {
+            Set<Person> expected = persons.asUnmodifiableObservableList().stream()
+                    .filter(filter)
+                    .collect(Collectors.toSet());
+            assertEquals(expected, persons.getPersonsInSegment(filter), filter.toString());
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class TrigramIndexTest {
+
+    private final TrigramIndex trigramIndex = new TrigramIndex();
+
+    @Test
+    public void getCandidates_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> trigramIndex.getCandidates(null));
+    }
+
+    @Test
+    public void getCandidates_keywordShorterThanTrigram_returnsEmptyOptional() {
+        trigramIndex.add(ALICE);
+        assertEquals(Optional.empty(), trigramIndex.getCandidates(Arrays.asList("alice", "al")));
+    }
+
+    @Test
+    public void getCandidates_mixedCaseKeywords_returnsEveryMatchingPerson() {
+        getTypicalPersons().forEach(trigramIndex::add);
+        List<String> keywords = Arrays.asList("PAULINE", "kUrZ", "friends", "2025-10");
+        PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(keywords);
+
+        Set<Person> candidates = trigramIndex.getCandidates(keywords).get();
+        Set<Person> matches = getTypicalPersons().stream().filter(predicate).collect(Collectors.toSet());
+        assertTrue(candidates.containsAll(matches));
+        assertEquals(matches, candidates.stream().filter(predicate).collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void getCandidates_noPersonHasTrigram_returnsEmptySet() {
+        getTypicalPersons().forEach(trigramIndex::add);
+        assertEquals(Optional.of(Collections.emptySet()), trigramIndex.getCandidates(Arrays.asList("xyz")));
+    }
+
+    @Test
+    public void remove_indexedPerson_personNoLongerCandidate() {
+        trigramIndex.add(ALICE);
+        trigramIndex.add(BENSON);
+        trigramIndex.remove(ALICE);
+        assertEquals(Optional.of(Collections.emptySet()), trigramIndex.getCandidates(Arrays.asList("alice")));
+        assertEquals(Optional.of(Set.of(BENSON)), trigramIndex.getCandidates(Arrays.asList("benson")));
+    }
+
+    @Test
+    public void remove_manyEditsOfSamePerson_onlyLatestVersionIsCandidate() {
+        Person current = CARL;
+        trigramIndex.add(current);
+        for (int i = 0; i < 200; i++) {
+            Person edited = new PersonBuilder(CARL).withAddress("Block " + i).build();
+            trigramIndex.remove(current);
+            trigramIndex.add(edited);
+            current = edited;
+        }
+        assertEquals(Optional.of(Set.of(current)), trigramIndex.getCandidates(Arrays.asList("block 199")));
+        assertEquals(Optional.of(Collections.emptySet()), trigramIndex.getCandidates(Arrays.asList("block 198")));
+    }
+
+    @Test
+    public void clear_indexedPersons_noCandidates() {
+        getTypicalPersons().forEach(trigramIndex::add);
+        trigramIndex.clear();
+        assertEquals(Optional.of(Collections.emptySet()), trigramIndex.getCandidates(Arrays.asList("meier")));
+    }
+}
@@ -7,16 +7,27 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.DncTag;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagDictionary;
 import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -210,6 +221,183 @@ public class UniquePersonListTest {
         assertFalse(uniquePersonList.containsSameEmail(emptyEmailPerson2));
     }
 
+    @Test
+    public void containsSamePhone_personWithSamePhoneInList_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person samePhonePerson = new PersonBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        assertTrue(uniquePersonList.containsSamePhone(samePhonePerson));
+        assertFalse(uniquePersonList.containsSamePhone(BOB));
+    }
+
+    @Test
+    public void countPersonsWithName_differentCase_countsAsSameName() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(new PersonBuilder(BOB).withName(ALICE.getName().fullName.toUpperCase()).build());
+        assertEquals(2, uniquePersonList.countPersonsWithName(ALICE.getName()));
+        assertEquals(0, uniquePersonList.countPersonsWithName(BOB.getName()));
+    }
+
+    @Test
+    public void indexes_afterMutations_reflectCurrentContents() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.containsSamePhone(ALICE));
+        assertFalse(uniquePersonList.containsSameEmail(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+
+        uniquePersonList.remove(BOB);
+        assertFalse(uniquePersonList.contains(BOB));
+        assertEquals(0, uniquePersonList.countPersonsWithPhone(BOB.getPhone()));
+
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.containsSameEmail(BOB));
+        assertEquals(1, uniquePersonList.countPersonsWithPhone(ALICE.getPhone()));
+    }
+
+    @Test
+    public void setPerson_afterEarlierPersonRemoved_replacesCorrectPerson() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.setPerson(CARL, BOB);
+        uniquePersonList.remove(BENSON);
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void setPerson_afterSeveralRemovalsAndAdd_replacesCorrectPerson() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE));
+        uniquePersonList.remove(BENSON);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(DANIEL);
+        uniquePersonList.setPerson(BOB, AMY);
+        uniquePersonList.setPerson(ELLE, ALICE);
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(Arrays.asList(CARL, ALICE, AMY));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPerson(editedAlice, BOB));
+    }
+
+    @Test
+    public void getPersonsWithTag_afterMutations_returnsTaggedPersons() {
+        Tag friends = TagDictionary.of("friends");
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        assertEquals(Set.of(ALICE, BENSON), uniquePersonList.getPersonsWithTag(friends));
+        assertEquals(Collections.emptySet(), uniquePersonList.getPersonsWithTag(TagDictionary.getDncTag()));
+
+        Person dncCarl = new PersonBuilder(CARL).withTags(DncTag.DNC_TAG_NAME).build();
+        uniquePersonList.setPerson(CARL, dncCarl);
+        uniquePersonList.remove(ALICE);
+        assertEquals(Set.of(BENSON), uniquePersonList.getPersonsWithTag(friends));
+        assertEquals(Set.of(dncCarl), uniquePersonList.getPersonsWithTag(TagDictionary.getDncTag()));
+    }
+
+    @Test
+    public void setPersons_withIndexes_searchesLikeBuiltIndexes() {
+        List<Person> persons = Arrays.asList(ALICE, BENSON, CARL);
+        PersonIndexes indexes = PersonIndexes.build(persons);
+        uniquePersonList.setPersons(persons, indexes);
+        assertEquals(Optional.of(indexes), uniquePersonList.getIndexes());
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(persons);
+        Tag friends = TagDictionary.of("friends");
+        assertEquals(expectedUniquePersonList.getPersonsWithTag(friends), uniquePersonList.getPersonsWithTag(friends));
+        assertEquals(expectedUniquePersonList.getSearchCandidates(List.of("meier")),
+                uniquePersonList.getSearchCandidates(List.of("meier")));
+
+        // indexes loaded from a list are kept up to date as it changes
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.getIndexes().isPresent());
+        assertEquals(Set.of(BENSON), uniquePersonList.getPersonsWithTag(friends));
+        assertEquals(Optional.of(Set.of(BENSON)), uniquePersonList.getSearchCandidates(List.of("meier")));
+    }
+
+    @Test
+    public void setPersons_indexesOfOtherPersons_throwsIllegalArgumentException() {
+        PersonIndexes indexes = PersonIndexes.build(List.of(ALICE));
+        assertThrows(IllegalArgumentException.class, () -> uniquePersonList.setPersons(List.of(ALICE, BOB), indexes));
+    }
+
+    @Test
+    public void buildIndexesInBackground_changedBeforeBuilt_searchesCurrentPersons() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        uniquePersonList.buildIndexesInBackground();
+        uniquePersonList.remove(BENSON);
+        uniquePersonList.add(BOB);
+
+        Tag friends = TagDictionary.of("friends");
+        assertEquals(Set.of(ALICE), uniquePersonList.getPersonsWithTag(friends));
+        assertEquals(Optional.of(Set.of(BOB)), uniquePersonList.getSearchCandidates(List.of("bob choo")));
+    }
+
+    @Test
+    public void setPersons_uniquePersonListWithIndexes_sharesIndexes() {
+        UniquePersonList replacement = new UniquePersonList();
+        PersonIndexes indexes = PersonIndexes.build(List.of(ALICE, BENSON));
+        replacement.setPersons(List.of(ALICE, BENSON), indexes);
+        uniquePersonList.setPersons(replacement);
+        assertEquals(Optional.of(indexes), uniquePersonList.getIndexes());
+        assertEquals(Set.of(ALICE, BENSON), uniquePersonList.getPersonsWithTag(TagDictionary.of("friends")));
+    }
+
+    @Test
+    public void getPersonsLastContactedWithin_afterChanges_returnsPersonsInRange() {
+        Person early = new PersonBuilder(ALICE).withLastContactedDate("2024-01-01").build();
+        Person middle = new PersonBuilder(BENSON).withLastContactedDate("2024-06-15").build();
+        Person late = new PersonBuilder(CARL).withLastContactedDate("2024-12-31").build();
+        Person never = new PersonBuilder(BOB).withLastContactedDate("").build();
+        uniquePersonList.setPersons(List.of(early, middle, late, never));
+
+        LastContactedDateRange firstHalf =
+                LastContactedDateRange.between(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 6, 30));
+        assertEquals(Set.of(early, middle), uniquePersonList.getPersonsLastContactedWithin(firstHalf));
+        assertEquals(Set.of(early), uniquePersonList.getPersonsLastContactedWithin(
+                LastContactedDateRange.before(LocalDate.of(2024, 6, 15))));
+        assertEquals(Set.of(late), uniquePersonList.getPersonsLastContactedWithin(
+                LastContactedDateRange.after(LocalDate.of(2024, 6, 15))));
+        assertEquals(Set.of(never), uniquePersonList.getPersonsLastContactedWithin(LastContactedDateRange.never()));
+
+        Person contactedMiddle = new PersonBuilder(late).withLastContactedDate("2024-03-01").build();
+        uniquePersonList.setPerson(late, contactedMiddle);
+        uniquePersonList.remove(early);
+        assertEquals(Set.of(middle, contactedMiddle), uniquePersonList.getPersonsLastContactedWithin(firstHalf));
+        assertEquals(Set.of(), uniquePersonList.getPersonsLastContactedWithin(
+                LastContactedDateRange.after(LocalDate.of(2024, 6, 15))));
+    }
+
+    @Test
+    public void getPersonsAgedWithin_afterChanges_returnsPersonsInRange() {
+        Person thirty = new PersonBuilder(ALICE).withAge("30").build();
+        Person fortyFive = new PersonBuilder(BENSON).withAge("45").build();
+        Person fifty = new PersonBuilder(CARL).withAge("50").build();
+        Person noAge = new PersonBuilder(BOB).withAge("").build();
+        uniquePersonList.setPersons(List.of(thirty, fortyFive, fifty, noAge));
+
+        AgeRange range = new AgeRange(30, 45);
+        assertEquals(Set.of(thirty, fortyFive), uniquePersonList.getPersonsAgedWithin(range));
+        assertEquals(Set.of(), uniquePersonList.getPersonsAgedWithin(new AgeRange(Age.MIN_AGE, 29)));
+
+        Person olderThirty = new PersonBuilder(thirty).withAge("51").build();
+        uniquePersonList.setPerson(thirty, olderThirty);
+        uniquePersonList.remove(fortyFive);
+        assertEquals(Set.of(), uniquePersonList.getPersonsAgedWithin(range));
+        assertEquals(Set.of(fifty, olderThirty), uniquePersonList.getPersonsAgedWithin(new AgeRange(46, Age.MAX_AGE)));
+    }
+
     @Test
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
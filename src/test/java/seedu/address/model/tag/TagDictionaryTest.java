@@ -0,0 +1,37 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class TagDictionaryTest {
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TagDictionary.intern(null));
+        assertThrows(NullPointerException.class, () -> TagDictionary.of(null));
+    }
+
+    @Test
+    public void of_invalidNewTagName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> TagDictionary.of("not*valid"));
+    }
+
+    @Test
+    public void intern_equalTags_returnsSameInstance() {
+        Tag first = TagDictionary.intern(new Tag("interned"));
+        assertSame(first, TagDictionary.intern(new Tag("interned")));
+        assertSame(first, TagDictionary.of("interned"));
+        assertEquals(new Tag("interned"), first);
+    }
+
+    @Test
+    public void intern_dncTagName_returnsDncTag() {
+        assertSame(TagDictionary.getDncTag(), TagDictionary.intern(new DncTag()));
+        assertSame(TagDictionary.getDncTag(), TagDictionary.intern(new Tag(DncTag.DNC_TAG_NAME)));
+        assertTrue(TagDictionary.of(DncTag.DNC_TAG_NAME) instanceof DncTag);
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TagSet.of(null));
+    }
+
+    @Test
+    public void of_emptyCollection_returnsEmptySet() {
+        assertSame(TagSet.EMPTY, TagSet.of(Collections.emptySet()));
+        assertTrue(TagSet.EMPTY.isEmpty());
+        assertFalse(TagSet.EMPTY.iterator().hasNext());
+    }
+
+    @Test
+    public void of_tags_behavesLikeHashSet() {
+        Set<Tag> hashSet = new HashSet<>(List.of(new Tag("friends"), new Tag("colleagues"), new DncTag()));
+        TagSet tagSet = TagSet.of(hashSet);
+
+        assertEquals(hashSet, tagSet);
+        assertEquals(tagSet, hashSet);
+        assertEquals(hashSet.hashCode(), tagSet.hashCode());
+        assertEquals(3, tagSet.size());
+        assertTrue(tagSet.contains(new Tag("friends")));
+        assertTrue(tagSet.containsId(TagDictionary.DNC_TAG_ID));
+        assertFalse(tagSet.contains(new Tag("neverInterned")));
+        assertFalse(tagSet.contains("friends"));
+        assertEquals(tagSet, TagSet.of(new ArrayList<>(hashSet)));
+    }
+
+    @Test
+    public void iterator_manyTags_returnsEveryInternedTag() {
+        List<Tag> tags = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            tags.add(new Tag("many" + i));
+        }
+        TagSet tagSet = TagSet.of(tags);
+
+        List<Tag> iterated = new ArrayList<>();
+        tagSet.forEach(iterated::add);
+        assertEquals(150, iterated.size());
+        assertEquals(new HashSet<>(tags), new HashSet<>(iterated));
+        iterated.forEach(tag -> assertSame(TagDictionary.intern(tag), tag));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tagSet = TagSet.of(List.of(new Tag("friends")));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.add(new Tag("colleagues")));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.remove(new Tag("friends")));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.clear());
+    }
+}
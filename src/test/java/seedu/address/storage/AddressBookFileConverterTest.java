@@ -0,0 +1,52 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.AddressBookFileFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+
+public class AddressBookFileConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convert_jsonToBinaryAndBack_lossless() throws Exception {
+        Path jsonFile = testFolder.resolve("addressBook.json");
+        Path binaryFile = testFolder.resolve("addressBook.bin");
+        Path convertedJsonFile = testFolder.resolve("converted.json");
+        new JsonAddressBookStorage(jsonFile).saveAddressBook(getTypicalAddressBook());
+
+        int personCount = AddressBookFileConverter.convert(jsonFile, binaryFile, AddressBookFileFormat.BINARY);
+        assertEquals(getTypicalAddressBook().getPersonList().size(), personCount);
+        assertEquals(getTypicalAddressBook(), new BinaryAddressBookStorage(binaryFile).readAddressBook().get());
+
+        AddressBookFileConverter.convert(binaryFile, convertedJsonFile, AddressBookFileFormat.JSON);
+        assertArrayEquals(Files.readAllBytes(jsonFile), Files.readAllBytes(convertedJsonFile));
+    }
+
+    @Test
+    public void convert_missingInputFile_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> AddressBookFileConverter.convert(
+                testFolder.resolve("missing.json"), testFolder.resolve("out.bin"), AddressBookFileFormat.BINARY));
+    }
+
+    @Test
+    public void createStorage_eachFormat_matchingStorage() {
+        Path filePath = testFolder.resolve("addressBook");
+        assertTrue(AddressBookFileConverter.createStorage(filePath, AddressBookFileFormat.JSON, false, false)
+                instanceof JsonAddressBookStorage);
+        assertTrue(AddressBookFileConverter.createStorage(filePath, AddressBookFileFormat.BINARY, false, true)
+                instanceof BinaryAddressBookStorage);
+    }
+}
@@ -0,0 +1,208 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.FXCollections;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.IncomeBracket;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(null).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // Modify data, overwrite existing file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // The previous version is kept as a backup
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertFalse(storage.readBackupAddressBook().get().getPersonList().contains(IDA));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_everyOptionalField_roundTrips() throws Exception {
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder().withName("Old Contact").withPhone("91234567").withEmail("")
+                .withAddress("").withOccupation("").withAge("").withPriority("NONE")
+                .withIncomeBracket((IncomeBracket) null).withLastContactedDate("").withTags().build());
+        original.addPerson(new PersonBuilder().withName("New Contact").withPhone("81234567")
+                .withEmail("new@example.com").withAddress("Blk 1, #02-03").withOccupation("teacher")
+                .withAge("120").withPriority("HIGH").withIncomeBracket(IncomeBracket.Level.HIGH)
+                .withLastContactedDate("1969-12-31").withTags("friends", "Do Not Call").build());
+
+        assertEquals(original, roundTrip(original));
+    }
+
+    @Test
+    public void saveAddressBook_repeatedValues_writtenOnce() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 100; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(80000000 + i))
+                    .withEmail("person" + i + "@example.com").withAddress("A very long shared address, #01-01")
+                    .withOccupation("insurance underwriter").withTags("hot lead", "colleagues").build());
+        }
+
+        byte[] bytes = write(addressBook);
+        assertEquals(1, countOccurrences(bytes, "A very long shared address, #01-01"));
+        assertEquals(1, countOccurrences(bytes, "insurance underwriter"));
+        assertEquals(1, countOccurrences(bytes, "hot lead"));
+        assertEquals(addressBook, BinaryAddressBookStreams.read(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    public void saveAddressBook_typicalPersons_muchSmallerThanJson() throws Exception {
+        Path jsonFile = testFolder.resolve("addressBook.json");
+        Path binaryFile = testFolder.resolve("addressBook.bin");
+        new JsonAddressBookStorage(jsonFile).saveAddressBook(getTypicalAddressBook());
+        new BinaryAddressBookStorage(binaryFile).saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(Files.size(binaryFile) * 3 < Files.size(jsonFile),
+                Files.size(binaryFile) + " bytes in binary, " + Files.size(jsonFile) + " bytes in json");
+    }
+
+    @Test
+    public void readAddressBook_compressedBinaryFile_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        new BinaryAddressBookStorage(filePath, true).saveAddressBook(getTypicalAddressBook());
+
+        assertEquals(getTypicalAddressBook(), new BinaryAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(getTypicalAddressBook(), new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        assertEquals(getTypicalAddressBook(), new BinaryAddressBookStorage(filePath).readAddressBook().get());
+        // and the other way around
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook(), new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_throwsDataLoadingException() throws Exception {
+        byte[] bytes = write(getTypicalAddressBook());
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        // a flipped bit
+        byte[] flipped = bytes.clone();
+        flipped[bytes.length / 2] ^= 1;
+        Files.write(filePath, flipped);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+
+        // a truncated file
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+
+        // trailing bytes
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length + 1));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        byte[] bytes = write(getTypicalAddressBook());
+        bytes[BinaryAddressBookStreams.MAGIC.length] = BinaryAddressBookStreams.FORMAT_VERSION + 1;
+        Path filePath = testFolder.resolve("addressBook.bin");
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersons_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ReadOnlyAddressBook duplicates = () -> FXCollections.observableArrayList(ALICE, new PersonBuilder(ALICE).build());
+        BinaryAddressBookStreams.write(duplicates, out);
+        Files.write(filePath, out.toByteArray());
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void varInt_roundTrips() throws Exception {
+        int[] values = {0, 1, 127, 128, 16383, 16384, Integer.MAX_VALUE};
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (int value : values) {
+            BinaryAddressBookStreams.writeVarInt(out, value);
+        }
+        assertEquals(1 + 1 + 1 + 2 + 2 + 3 + 5, bytes.size());
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        for (int value : values) {
+            assertEquals(value, BinaryAddressBookStreams.readVarInt(in));
+        }
+    }
+
+    private static AddressBook roundTrip(AddressBook addressBook) throws Exception {
+        return BinaryAddressBookStreams.read(new ByteArrayInputStream(write(addressBook)));
+    }
+
+    private static byte[] write(AddressBook addressBook) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryAddressBookStreams.write(addressBook, out);
+        return out.toByteArray();
+    }
+
+    private static int countOccurrences(byte[] bytes, String text) {
+        byte[] pattern = text.getBytes(StandardCharsets.UTF_8);
+        int count = 0;
+        for (int i = 0; i + pattern.length <= bytes.length; i++) {
+            if (Arrays.equals(bytes, i, i + pattern.length, pattern, 0, pattern.length)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,136 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.PersonIndexes;
+import seedu.address.model.tag.TagDictionary;
+
+public class IndexedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new IndexedAddressBookStorage(testFolder.resolve("missing.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_matchingIndexFile_indexesLoaded() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        saveAndFlush(new IndexedAddressBookStorage(filePath), original);
+        assertTrue(Files.exists(IndexedAddressBookStorage.getIndexFilePath(filePath)));
+
+        ReadOnlyAddressBook readBack = new IndexedAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, readBack);
+        Optional<PersonIndexes> indexes = readBack.getIndexes();
+        assertTrue(indexes.isPresent());
+        assertEquals(PersonIndexes.fingerprintOf(original.getPersonList()), indexes.get().getFingerprint());
+
+        // the indexes carry over into the copy made by the model
+        AddressBook modelCopy = new AddressBook(readBack);
+        assertEquals(indexes, modelCopy.getIndexes());
+        assertEquals(Set.of(ALICE), modelCopy.getSearchCandidates(List.of("pauline")).get());
+        assertEquals(new HashSet<>(original.getPersonsWithTag(TagDictionary.of("friends"))),
+                new HashSet<>(modelCopy.getPersonsWithTag(TagDictionary.of("friends"))));
+    }
+
+    @Test
+    public void readAddressBook_dataChangedElsewhere_indexFileIgnored() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        saveAndFlush(new IndexedAddressBookStorage(filePath), original);
+
+        // written without the index file, which now belongs to different data
+        original.addPerson(HOON);
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        AddressBook readBack = new AddressBook(new IndexedAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals(Set.of(HOON), readBack.getSearchCandidates(List.of("hoon")).get());
+    }
+
+    @Test
+    public void readAddressBook_corruptedIndexFile_indexFileIgnored() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        saveAndFlush(new IndexedAddressBookStorage(filePath), original);
+        Path indexFilePath = IndexedAddressBookStorage.getIndexFilePath(filePath);
+        byte[] bytes = Files.readAllBytes(indexFilePath);
+        bytes[bytes.length / 2] ^= 0x55;
+        Files.write(indexFilePath, bytes);
+
+        ReadOnlyAddressBook readBack = new IndexedAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, readBack);
+        assertEquals(Set.of(ALICE), new AddressBook(readBack).getSearchCandidates(List.of("pauline")).get());
+    }
+
+    @Test
+    public void saveAddressBook_indexFileOnlyWrittenOnFlush() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path indexFilePath = IndexedAddressBookStorage.getIndexFilePath(filePath);
+        IndexedAddressBookStorage storage = new IndexedAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook.snapshot());
+        assertFalse(Files.exists(indexFilePath));
+
+        storage.flushAddressBook();
+        assertEquals(PersonIndexes.fingerprintOf(addressBook.getPersonList()),
+                PersonIndexesFile.read(indexFilePath).getFingerprint());
+
+        // flushing again without a save writes nothing
+        Files.delete(indexFilePath);
+        storage.flushAddressBook();
+        assertFalse(Files.exists(indexFilePath));
+    }
+
+    @Test
+    public void flushAddressBook_changedAddressBook_indexFileRewritten() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path indexFilePath = IndexedAddressBookStorage.getIndexFilePath(filePath);
+        IndexedAddressBookStorage storage = new IndexedAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        saveAndFlush(storage, addressBook);
+        byte[] indexFile = Files.readAllBytes(indexFilePath);
+
+        // saving again without changes leaves the index file as it is
+        Files.setLastModifiedTime(indexFilePath, FileTime.fromMillis(0));
+        saveAndFlush(storage, addressBook);
+        assertEquals(FileTime.fromMillis(0), Files.getLastModifiedTime(indexFilePath));
+        assertArrayEquals(indexFile, Files.readAllBytes(indexFilePath));
+
+        addressBook.removePerson(ALICE);
+        saveAndFlush(storage, addressBook.snapshot());
+        PersonIndexes indexes = PersonIndexesFile.read(indexFilePath);
+        assertEquals(PersonIndexes.fingerprintOf(addressBook.getPersonList()), indexes.getFingerprint());
+        assertTrue(new IndexedAddressBookStorage(filePath).readAddressBook().get().getIndexes().isPresent());
+    }
+
+    private static void saveAndFlush(IndexedAddressBookStorage storage, ReadOnlyAddressBook addressBook)
+            throws Exception {
+        storage.saveAddressBook(addressBook);
+        storage.flushAddressBook();
+    }
+}
@@ -0,0 +1,250 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(new JournaledAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_sameAddressBook_appendsChangesOnly() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+
+        original.addPerson(HOON);
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        original.removePerson(BENSON);
+        storage.saveAddressBook(original);
+
+        // saving again without changes writes nothing
+        storage.saveAddressBook(original);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(4, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_differentAddressBook_rewritesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        AddressBook other = getTypicalAddressBook();
+        other.addPerson(IDA);
+        storage.saveAddressBook(other);
+
+        assertEquals(1, Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(other, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_copyOfSavedAddressBook_appendsChangesOnly() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        AddressBook copy = new AddressBook(original);
+        copy.addPerson(IDA);
+        storage.saveAddressBook(copy);
+
+        assertEquals(3, Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(copy, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_copyOfAddressBookRead_appendsChangesOnly() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        // a new session copies the address book read into its model
+        JournaledAddressBookStorage nextStorage = new JournaledAddressBookStorage(filePath);
+        AddressBook model = new AddressBook(nextStorage.readAddressBook().get());
+        model.addPerson(IDA);
+        nextStorage.saveAddressBook(model.snapshot());
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(3, Files.readAllLines(journalFilePath).size());
+        assertEquals(model, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_resetData_rewritesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = new AddressBook();
+        storage.saveAddressBook(original);
+
+        original.resetData(getTypicalAddressBook());
+        storage.saveAddressBook(original);
+
+        assertEquals(1, Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_pastCompactionThreshold_rewritesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath), 2);
+        AddressBook original = new AddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(ALICE);
+        storage.saveAddressBook(original);
+        original.addPerson(BENSON);
+        storage.saveAddressBook(original);
+        assertEquals(3, Files.readAllLines(journalFilePath).size());
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_staleJournal_movedAsideAndReported() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // the snapshot is replaced without its journal, as by a compaction interrupted before the journal was reset
+        AddressBook replacement = getTypicalAddressBook();
+        replacement.addPerson(IDA);
+        new JsonAddressBookStorage(filePath).saveAddressBook(replacement);
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        List<String> staleRecords = Files.readAllLines(journalFilePath);
+
+        assertEquals(replacement, new AddressBook(storage.readAddressBook().get()));
+        Path staleJournalFilePath = journalFilePath.resolveSibling(
+                journalFilePath.getFileName() + JournaledAddressBookStorage.STALE_JOURNAL_FILE_SUFFIX);
+        assertEquals(List.of(String.format(JournaledAddressBookStorage.MESSAGE_STALE_JOURNAL, journalFilePath,
+                staleJournalFilePath)), storage.getReadWarnings());
+        assertEquals(staleRecords, Files.readAllLines(staleJournalFilePath));
+
+        // the next save starts a new journal, rather than appending to the stale one
+        AddressBook model = new AddressBook(storage.readAddressBook().get());
+        model.addPerson(HOON);
+        storage.saveAddressBook(model);
+        assertEquals(List.of(), storage.getReadWarnings());
+        assertEquals(model, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        appendToJournal(filePath, "{\"type\":\"ADD\",\"person\":{\"name\":\"Ida");
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_inapplicableRecord_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = new AddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(ALICE);
+        storage.saveAddressBook(original);
+
+        // ALICE is added a second time
+        List<String> records = Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath));
+        appendToJournal(filePath, records.get(1) + "\n");
+
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_corruptRecordBeforeLast_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = new AddressBook();
+        storage.saveAddressBook(original);
+
+        appendToJournal(filePath, "not a record\n");
+        original.addPerson(ALICE);
+        storage.saveAddressBook(original);
+
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesSnapshotOnly() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path otherFilePath = testFolder.resolve("other.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original, otherFilePath);
+
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(otherFilePath)));
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherFilePath).get()));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("addressbook.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    private static void appendToJournal(Path filePath, String text) throws Exception {
+        Files.write(JournaledAddressBookStorage.getJournalFilePath(filePath), text.getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+public class JsonAddressBookStreamsTest {
+
+    private static final Path TYPICAL_PERSONS_FILE = Paths.get("src", "test", "data",
+            "JsonSerializableAddressBookTest", "typicalPersonsAddressBook.json");
+
+    @Test
+    public void write_thenRead_sameAddressBook() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        assertEquals(original, read(write(original, false)));
+        assertEquals(original, read(write(original, true)));
+    }
+
+    @Test
+    public void write_compact_noIndentation() throws Exception {
+        String compact = write(getTypicalAddressBook(), true);
+        String indented = write(getTypicalAddressBook(), false);
+        assertFalse(compact.contains("\n"));
+        assertTrue(indented.contains("\n"));
+        assertTrue(compact.length() < indented.length());
+    }
+
+    @Test
+    public void write_readableAsJsonSerializableAddressBook() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        String json = write(original, false);
+        assertEquals(original, JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType());
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)), json);
+    }
+
+    @Test
+    public void read_fileWithoutChecksum_success() throws Exception {
+        try (InputStream in = Files.newInputStream(TYPICAL_PERSONS_FILE)) {
+            assertEquals(getTypicalAddressBook(), JsonAddressBookStreams.read(in));
+        }
+    }
+
+    @Test
+    public void read_unknownFields_ignored() throws Exception {
+        String json = write(getTypicalAddressBook(), true);
+        String withUnknownFields = "{\"version\": {\"major\": [1, 2]}, \"note\": \"x\", " + json.substring(1);
+        assertEquals(getTypicalAddressBook(), read(withUnknownFields));
+    }
+
+    @Test
+    public void read_wrongChecksum_throwsIllegalValueException() throws Exception {
+        String json = write(getTypicalAddressBook(), true).replaceAll("\"checksum\":\\d+", "\"checksum\":1");
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_CHECKSUM_MISMATCH, () -> read(json));
+    }
+
+    @Test
+    public void read_truncated_throwsIOException() throws Exception {
+        String json = write(getTypicalAddressBook(), true);
+        assertThrows(IOException.class, () -> read(json.substring(0, json.length() / 2)));
+        assertThrows(IOException.class, () -> read(""));
+        assertThrows(IOException.class, () -> read("[]"));
+    }
+
+    private static String write(AddressBook addressBook, boolean isCompact) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonAddressBookStreams.write(addressBook, out, isCompact);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static AddressBook read(String json) throws IOException, IllegalValueException {
+        return JsonAddressBookStreams.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
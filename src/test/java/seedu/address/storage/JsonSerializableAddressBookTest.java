@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
@@ -19,6 +20,7 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path WRONG_CHECKSUM_FILE = TEST_DATA_FOLDER.resolve("wrongChecksumAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -44,4 +46,20 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_wrongChecksum_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(WRONG_CHECKSUM_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_CHECKSUM_MISMATCH,
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_savedAddressBook_checksumMatches() throws Exception {
+        AddressBook typicalPersonsAddressBook = TypicalPersons.getTypicalAddressBook();
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(typicalPersonsAddressBook));
+        assertTrue(json.contains("\"checksum\""));
+        assertEquals(typicalPersonsAddressBook,
+                JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType());
+    }
 }
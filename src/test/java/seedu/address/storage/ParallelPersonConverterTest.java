@@ -0,0 +1,89 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelPersonConverterTest {
+
+    private static final int PERSON_COUNT = ParallelPersonConverter.CHUNK_SIZE * 3 + 5;
+
+    @Test
+    public void convertAll_manyChunks_keepsOrder() throws Exception {
+        List<Person> persons = generatePersons(PERSON_COUNT);
+        List<JsonAdaptedPerson> jsonAdaptedPersons = new ArrayList<>();
+        persons.forEach(person -> jsonAdaptedPersons.add(new JsonAdaptedPerson(person)));
+
+        assertEquals(persons, ParallelPersonConverter.convertAll(jsonAdaptedPersons));
+    }
+
+    @Test
+    public void convertAll_fewPersons_success() throws Exception {
+        List<Person> persons = generatePersons(3);
+        List<JsonAdaptedPerson> jsonAdaptedPersons = new ArrayList<>();
+        persons.forEach(person -> jsonAdaptedPersons.add(new JsonAdaptedPerson(person)));
+
+        assertEquals(persons, ParallelPersonConverter.convertAll(jsonAdaptedPersons));
+        assertEquals(List.of(), ParallelPersonConverter.convertAll(List.of()));
+    }
+
+    @Test
+    public void convertAll_invalidPersonsInSeveralChunks_reportsFirstInOrder() throws Exception {
+        List<JsonAdaptedPerson> jsonAdaptedPersons = new ArrayList<>();
+        generatePersons(PERSON_COUNT).forEach(person -> jsonAdaptedPersons.add(new JsonAdaptedPerson(person)));
+        // an invalid name late in the second chunk, and invalid phones in every chunk after it
+        int firstInvalid = ParallelPersonConverter.CHUNK_SIZE * 2 - 1;
+        jsonAdaptedPersons.set(firstInvalid, withInvalidName(jsonAdaptedPersons.get(firstInvalid)));
+        for (int i = firstInvalid + 1; i < PERSON_COUNT; i += ParallelPersonConverter.CHUNK_SIZE / 2) {
+            jsonAdaptedPersons.set(i, withInvalidPhone(jsonAdaptedPersons.get(i)));
+        }
+
+        for (int round = 0; round < 10; round++) {
+            assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                    ParallelPersonConverter.convertAll(jsonAdaptedPersons));
+        }
+    }
+
+    @Test
+    public void add_afterInvalidPerson_reportsInvalidPersonOnFinish() throws Exception {
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+        List<Person> persons = generatePersons(ParallelPersonConverter.CHUNK_SIZE + 1);
+        converter.add(withInvalidPhone(new JsonAdaptedPerson(persons.get(0))));
+        persons.subList(1, persons.size()).forEach(person -> converter.add(new JsonAdaptedPerson(person)));
+
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, converter::finish);
+    }
+
+    private static List<Person> generatePersons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(80000000 + i))
+                    .withEmail("person" + i + "@example.com").build());
+        }
+        return persons;
+    }
+
+    private static JsonAdaptedPerson withInvalidName(JsonAdaptedPerson person) throws IllegalValueException {
+        Person modelPerson = person.toModelType();
+        return new JsonAdaptedPerson("R@chel*", modelPerson.getPhone().value, modelPerson.getEmail().value,
+                modelPerson.getAddress().value, modelPerson.getOccupation().value, modelPerson.getAge().value,
+                modelPerson.getPriority().toString(), null, modelPerson.getLastContactedDate().value, List.of());
+    }
+
+    private static JsonAdaptedPerson withInvalidPhone(JsonAdaptedPerson person) throws IllegalValueException {
+        Person modelPerson = person.toModelType();
+        return new JsonAdaptedPerson(modelPerson.getName().fullName, "+651234", modelPerson.getEmail().value,
+                modelPerson.getAddress().value, modelPerson.getOccupation().value, modelPerson.getAge().value,
+                modelPerson.getPriority().toString(), null, modelPerson.getLastContactedDate().value, List.of());
+    }
+}
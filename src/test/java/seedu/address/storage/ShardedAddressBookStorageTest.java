@@ -0,0 +1,189 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    private static final int SHARD_COUNT = 4;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_noShards_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardedAddressBookStorage(testFolder, 0));
+    }
+
+    @Test
+    public void readAddressBook_missingManifest_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(testFolder.resolve("missing.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void shardOf_sameIdentity_sameShard() {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress("Somewhere else").withTags("new").build();
+        assertEquals(ShardedAddressBookStorage.shardOf(ALICE, 16), ShardedAddressBookStorage.shardOf(editedAlice, 16));
+        // the hash must not change between runs, or existing shards would be misplaced
+        assertEquals(11, ShardedAddressBookStorage.shardOf(ALICE, 16));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SHARD_COUNT);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, storage.readAddressBook().get());
+        assertEquals(SHARD_COUNT, shardFiles().size());
+
+        // Modify data, save through the change feed, and read back in a new storage
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withName("Benson Renamed").build());
+        Set<String> shardsBefore = shardFiles();
+        storage.saveAddressBook(original);
+        assertEquals(original, new ShardedAddressBookStorage(filePath, SHARD_COUNT).readAddressBook().get());
+        // the replaced shards are kept for the backup
+        assertEquals(getTypicalAddressBook(), storage.readBackupAddressBook().get());
+        assertEquals(SHARD_COUNT + changedShards(shardsBefore), shardFiles().size());
+
+        // and deleted by the save after next
+        AddressBook previous = new AddressBook(original);
+        original.addPerson(IDA);
+        shardsBefore = shardFiles();
+        storage.saveAddressBook(original);
+        assertEquals(previous, storage.readBackupAddressBook().get());
+        assertEquals(SHARD_COUNT + changedShards(shardsBefore), shardFiles().size());
+    }
+
+    @Test
+    public void saveAddressBook_oneChange_rewritesOnlyItsShard() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SHARD_COUNT);
+        storage.saveAddressBook(addressBook);
+        Set<String> shardsBefore = shardFiles();
+
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, changedShards(shardsBefore));
+
+        // nothing changed, so nothing is written
+        shardsBefore = shardFiles();
+        storage.saveAddressBook(addressBook);
+        assertEquals(0, changedShards(shardsBefore));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_rewritesOnlyChangedShards() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new ShardedAddressBookStorage(filePath, SHARD_COUNT).saveAddressBook(getTypicalAddressBook());
+        Set<String> shardsBefore = shardFiles();
+
+        // a new storage and a copy of the address book, as at startup, so the changes are not known to the storage
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SHARD_COUNT);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        Person editedAlice = new PersonBuilder(ALICE).withAddress("Somewhere else").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(1, changedShards(shardsBefore));
+        AddressBook readBack = new AddressBook(new ShardedAddressBookStorage(filePath, SHARD_COUNT)
+                .readAddressBook().get());
+        assertEquals(addressBook, readBack);
+        assertEquals(0, readBack.getPersonList().indexOf(editedAlice));
+    }
+
+    @Test
+    public void saveAddressBook_differentShardCount_rewritesAllShards() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new ShardedAddressBookStorage(filePath, SHARD_COUNT).saveAddressBook(getTypicalAddressBook());
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SHARD_COUNT + 1);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        Set<String> shardsBefore = shardFiles();
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(SHARD_COUNT + 1, changedShards(shardsBefore));
+        assertEquals(getTypicalAddressBook(), new ShardedAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_missingShard_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new ShardedAddressBookStorage(filePath, SHARD_COUNT).saveAddressBook(getTypicalAddressBook());
+        Files.delete(testFolder.resolve(shardFiles().iterator().next()));
+
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_switchFromJsonAndBack_keepsData() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        // switch to the sharded format
+        ShardedAddressBookStorage shardedStorage = new ShardedAddressBookStorage(filePath, SHARD_COUNT);
+        addressBook = new AddressBook(shardedStorage.readAddressBook().get());
+        assertEquals(getTypicalAddressBook(), addressBook);
+        addressBook.addPerson(HOON);
+        shardedStorage.saveAddressBook(addressBook);
+        assertTrue(ShardedAddressBookStorage.isManifestFile(filePath));
+        assertEquals(SHARD_COUNT, shardFiles().size());
+        // the json file is kept as the backup
+        assertFalse(ShardedAddressBookStorage.isManifestFile(JsonAddressBookStorage.getBackupFilePath(filePath)));
+        assertEquals(getTypicalAddressBook(), shardedStorage.readBackupAddressBook().get());
+
+        // and back to json
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(filePath);
+        addressBook = new AddressBook(jsonStorage.readAddressBook().get());
+        assertEquals(addressBook, shardedStorage.readAddressBook().get());
+        addressBook.addPerson(IDA);
+        jsonStorage.saveAddressBook(addressBook);
+        assertFalse(ShardedAddressBookStorage.isManifestFile(filePath));
+        assertEquals(addressBook, jsonStorage.readAddressBook().get());
+        // the manifest is kept as the backup, and its shards are still there
+        AddressBook withHoon = new AddressBook(addressBook);
+        withHoon.removePerson(IDA);
+        assertEquals(withHoon, jsonStorage.readBackupAddressBook().get());
+    }
+
+    private Set<String> shardFiles() throws Exception {
+        try (Stream<Path> files = Files.list(testFolder)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(fileName -> fileName.contains(ShardedAddressBookStorage.SHARD_FILE_INFIX))
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    private int changedShards(Set<String> shardsBefore) throws Exception {
+        Set<String> newShards = new HashSet<>(shardFiles());
+        newShards.removeAll(shardsBefore);
+        return newShards.size();
+    }
+}
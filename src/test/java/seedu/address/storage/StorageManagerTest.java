@@ -2,9 +2,18 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -65,4 +74,101 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void saveAddressBook_inBackground_savesAddressBookAsAtRequest() throws Exception {
+        StorageManager backgroundStorageManager = new StorageManager(
+                new JsonAddressBookStorage(getTempFilePath("ab")), new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                true);
+        AddressBook original = getTypicalAddressBook();
+        AddressBook expected = new AddressBook(original);
+
+        backgroundStorageManager.saveAddressBook(original);
+        original.addPerson(HOON);
+        backgroundStorageManager.flushAddressBook();
+
+        assertEquals(expected, new AddressBook(backgroundStorageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_inBackgroundDuringSlowSave_coalescesWaitingSaves() throws Exception {
+        CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        CountDownLatch firstSaveReleased = new CountDownLatch(1);
+        List<Long> savedVersions = new ArrayList<>();
+        AddressBookStorage slowStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                firstSaveStarted.countDown();
+                try {
+                    firstSaveReleased.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                savedVersions.add(addressBook.getVersion());
+                super.saveAddressBook(addressBook);
+            }
+        };
+        StorageManager backgroundStorageManager =
+                new StorageManager(slowStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        AddressBook original = new AddressBook();
+
+        original.addPerson(ALICE);
+        backgroundStorageManager.saveAddressBook(original);
+        firstSaveStarted.await();
+        original.addPerson(BENSON);
+        backgroundStorageManager.saveAddressBook(original);
+        original.addPerson(HOON);
+        backgroundStorageManager.saveAddressBook(original);
+        firstSaveReleased.countDown();
+        backgroundStorageManager.flushAddressBook();
+
+        assertEquals(List.of(original.getVersion() - 2, original.getVersion()), savedVersions);
+        assertEquals(original, new AddressBook(backgroundStorageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_inBackgroundFails_reportsError() throws Exception {
+        IOException error = new IOException("dummy IO exception");
+        AddressBookStorage failingStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                throw error;
+            }
+        };
+        StorageManager backgroundStorageManager =
+                new StorageManager(failingStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        AtomicReference<IOException> reportedError = new AtomicReference<>();
+        backgroundStorageManager.setSaveErrorHandler(reportedError::set);
+
+        backgroundStorageManager.saveAddressBook(getTypicalAddressBook());
+
+        assertThrows(IOException.class, error.getMessage(), backgroundStorageManager::flushAddressBook);
+        assertEquals(error, reportedError.get());
+    }
+
+    @Test
+    public void saveAddressBook_inBackgroundThrowsRuntimeException_reportsError() throws Exception {
+        RuntimeException error = new IllegalStateException("dummy runtime exception");
+        AddressBookStorage failingStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+                throw error;
+            }
+        };
+        StorageManager backgroundStorageManager =
+                new StorageManager(failingStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        AtomicReference<IOException> reportedError = new AtomicReference<>();
+        backgroundStorageManager.setSaveErrorHandler(reportedError::set);
+
+        backgroundStorageManager.saveAddressBook(getTypicalAddressBook());
+
+        String expectedMessage = new IOException(error).getMessage();
+        assertThrows(IOException.class, expectedMessage, backgroundStorageManager::flushAddressBook);
+        assertEquals(error, reportedError.get().getCause());
+
+        // the saver is still running after the failure
+        reportedError.set(null);
+        backgroundStorageManager.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, expectedMessage, backgroundStorageManager::flushAddressBook);
+        assertEquals(error, reportedError.get().getCause());
+    }
 }